@@ -0,0 +1,142 @@
+package com.famoney.api;
+
+import com.famoney.api.category.entity.Category;
+import com.famoney.api.expense.entity.Expense;
+import com.famoney.api.ledger.repository.LedgerRepository;
+import com.famoney.api.user.entity.User;
+import com.famoney.api.user.repository.UserRepository;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * In-memory entities and repository stubs shared by the benchmarks.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String LEDGER_ID = "bench-ledger";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<Category> categories(int count) {
+        List<Category> categories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            categories.add(Category.builder()
+                    .id("bench-category-" + i)
+                    .ledgerId(LEDGER_ID)
+                    .name("Category " + i)
+                    .color("#808080")
+                    .icon("restaurant")
+                    .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                    .build());
+        }
+        return categories;
+    }
+
+    public static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .id("bench-user-" + i)
+                    .email("user" + i + "@famoney.test")
+                    .password("x")
+                    .name("User " + i)
+                    .build());
+        }
+        return users;
+    }
+
+    /**
+     * Expenses spread round-robin over the given categories and users.
+     */
+    public static List<Expense> expenses(int count, List<Category> categories, List<User> users) {
+        List<Expense> expenses = new ArrayList<>(count);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 6, 1, 12, 0);
+        for (int i = 0; i < count; i++) {
+            expenses.add(Expense.builder()
+                    .id("bench-expense-" + i)
+                    .ledgerId(LEDGER_ID)
+                    .categoryId(categories.get(i % categories.size()).getId())
+                    .amount(BigDecimal.valueOf(1000 + i, 0))
+                    .description("Expense " + i)
+                    .expenseDate(LocalDate.of(2025, 6, 1).minusDays(i % 30))
+                    .paymentMethod(i % 2 == 0 ? "CARD" : "CASH")
+                    .createdBy(users.get(i % users.size()).getId())
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        return expenses;
+    }
+
+    /**
+     * Create a repository stub whose findAllById, findById and findDisplayRowsByIdIn are served from memory
+     * and whose findVersionById reports every ledger at version 1.
+     * Any other repository method throws UnsupportedOperationException.
+     */
+    @SuppressWarnings("unchecked")
+    public static <R, T> R inMemoryRepository(Class<R> repositoryType, List<T> entities, Function<T, String> idOf) {
+        Map<String, T> byId = entities.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        return (R) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllById" -> StreamSupport.stream(((Iterable<String>) args[0]).spliterator(), false)
+                            .map(byId::get)
+                            .filter(entity -> entity != null)
+                            .collect(Collectors.toList());
+                    case "findById" -> java.util.Optional.ofNullable(byId.get((String) args[0]));
+                    case "findDisplayRowsByIdIn" -> StreamSupport.stream(((Iterable<String>) args[0]).spliterator(), false)
+                            .map(byId::get)
+                            .filter(entity -> entity != null)
+                            .map(entity -> displayRow((User) entity))
+                            .collect(Collectors.toList());
+                    case "findAllForLedger" -> entities;
+                    case "findVersionById" -> java.util.Optional.of(ledgerVersion(1));
+                    case "toString" -> "InMemory" + repositoryType.getSimpleName();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static LedgerRepository.LedgerVersion ledgerVersion(long version) {
+        return new LedgerRepository.LedgerVersion() {
+            @Override
+            public long getVersion() {
+                return version;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return LocalDateTime.of(2025, 1, 1, 0, 0);
+            }
+        };
+    }
+
+    private static UserRepository.UserDisplayRow displayRow(User user) {
+        return new UserRepository.UserDisplayRow() {
+            @Override
+            public String getId() {
+                return user.getId();
+            }
+
+            @Override
+            public String getName() {
+                return user.getName();
+            }
+
+            @Override
+            public String getProfileImage() {
+                return user.getProfileImage();
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.famoney.api.common.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT generation and verification as done on every authenticated request.
+ * verifiedCacheSize = 0 measures a full parse; a positive size measures the cache hit path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "famoney-benchmark-secret-key-minimum-256-bits-for-hs512-algorithm";
+
+    @Param({"0", "1000"})
+    public long verifiedCacheSize;
+
+    private JwtTokenProvider provider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L, verifiedCacheSize);
+        accessToken = provider.generateAccessToken("bench-user", "bench@famoney.test");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return provider.generateAccessToken("bench-user", "bench@famoney.test");
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verify() {
+        return provider.verify(accessToken);
+    }
+}
@@ -0,0 +1,48 @@
+package com.famoney.api.expense.dto;
+
+import com.famoney.api.BenchmarkFixtures;
+import com.famoney.api.category.entity.Category;
+import com.famoney.api.expense.entity.Expense;
+import com.famoney.api.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of a single expense entity to its response DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpenseResponseBenchmark {
+
+    private Expense expense;
+    private Category category;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        List<Category> categories = BenchmarkFixtures.categories(1);
+        List<User> users = BenchmarkFixtures.users(1);
+        expense = BenchmarkFixtures.expenses(1, categories, users).get(0);
+        category = categories.get(0);
+        user = users.get(0);
+    }
+
+    @Benchmark
+    public ExpenseResponse from() {
+        return ExpenseResponse.from(expense, category, user.getName(), user.getProfileImage());
+    }
+
+    @Benchmark
+    public ExpenseResponse fromWithoutCategory() {
+        return ExpenseResponse.from(expense, (Category) null, user.getName(), user.getProfileImage());
+    }
+}
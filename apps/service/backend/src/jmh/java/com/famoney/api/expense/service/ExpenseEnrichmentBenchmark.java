@@ -0,0 +1,94 @@
+package com.famoney.api.expense.service;
+
+import com.famoney.api.BenchmarkFixtures;
+import com.famoney.api.category.entity.Category;
+import com.famoney.api.category.repository.CategoryRepository;
+import com.famoney.api.category.service.CategoryCache;
+import com.famoney.api.common.config.CacheConfig;
+import com.famoney.api.expense.dto.ExpenseResponse;
+import com.famoney.api.expense.entity.Expense;
+import com.famoney.api.ledger.entity.Ledger;
+import com.famoney.api.ledger.repository.LedgerRepository;
+import com.famoney.api.ledger.service.LedgerVersionService;
+import com.famoney.api.member.entity.Member;
+import com.famoney.api.member.repository.MemberRepository;
+import com.famoney.api.user.entity.User;
+import com.famoney.api.user.repository.UserRepository;
+import com.famoney.api.user.service.UserDisplayCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExpenseService.enrichExpenses over an in-memory page.
+ * Repositories are served from memory and the reference caches are warm after the first call,
+ * so this measures the version lookup, cache lookup and mapping cost only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExpenseEnrichmentBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private AnnotationConfigApplicationContext context;
+    private ExpenseService expenseService;
+    private Page<Expense> page;
+
+    @Setup
+    public void setUp() {
+        List<Category> categories = BenchmarkFixtures.categories(12);
+        List<User> users = BenchmarkFixtures.users(4);
+        List<Expense> expenses = BenchmarkFixtures.expenses(pageSize, categories, users);
+
+        // The caches are Spring proxies, so build them in a minimal context
+        context = new AnnotationConfigApplicationContext();
+        context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+        context.registerBean(CategoryRepository.class, () ->
+                BenchmarkFixtures.inMemoryRepository(CategoryRepository.class, categories, Category::getId));
+        context.registerBean(UserRepository.class, () ->
+                BenchmarkFixtures.inMemoryRepository(UserRepository.class, users, User::getId));
+        context.registerBean(LedgerRepository.class, () ->
+                BenchmarkFixtures.inMemoryRepository(LedgerRepository.class, List.<Ledger>of(), Ledger::getId));
+        context.registerBean(MemberRepository.class, () ->
+                BenchmarkFixtures.inMemoryRepository(MemberRepository.class, List.<Member>of(), Member::getId));
+        context.register(CacheConfig.class, LedgerVersionService.class, CategoryCache.class, UserDisplayCache.class);
+        context.refresh();
+
+        expenseService = new ExpenseService(
+                null,
+                null,
+                context.getBean(CategoryCache.class),
+                context.getBean(UserDisplayCache.class),
+                null,
+                null,
+                null,
+                false);
+        page = new PageImpl<>(expenses, PageRequest.of(0, pageSize), 1_000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ExpenseResponse> enrichExpenses() {
+        return expenseService.enrichExpenses(page, BenchmarkFixtures.LEDGER_ID);
+    }
+}
@@ -0,0 +1,103 @@
+package com.famoney.api.settlement.service;
+
+import com.famoney.api.BenchmarkFixtures;
+import com.famoney.api.settlement.repository.SettlementRepository;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settlement of one ledger over a year of expenses in a file-backed H2 database, so a million rows
+ * are paged from disk instead of held on the heap:
+ * the paid-totals GROUP BY (SettlementRepository.PAID_TOTALS_SQL) plus balance matching.
+ * The schema comes from the Flyway migrations, so the query uses the production indexes;
+ * H2 result reuse is off so every invocation really runs the aggregation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SettlementAggregationBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 12, 31);
+
+    @Param({"200"})
+    public int members;
+
+    @Param({"100000", "1000000"})
+    public int expenses;
+
+    private SingleConnectionDataSource dataSource;
+    private NamedParameterJdbcTemplate jdbc;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:file:" + Path.of(System.getProperty("java.io.tmpdir"), "settlement-bench").toAbsolutePath()
+                        + ";MODE=PostgreSQL;OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "", true);
+        // Start empty even if an interrupted run left the database file behind
+        new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.update("INSERT INTO users (id, email, password, name) " +
+                "SELECT 'bench-user-' || X, 'user' || X || '@famoney.test', 'x', 'User ' || X " +
+                "FROM SYSTEM_RANGE(0, ?)", members - 1);
+        template.update("INSERT INTO ledgers (id, name, created_by) VALUES (?, 'Bench', 'bench-user-0')",
+                BenchmarkFixtures.LEDGER_ID);
+        template.update("INSERT INTO members (id, user_id, ledger_id, role) " +
+                "SELECT 'bench-member-' || X, 'bench-user-' || X, ?, 'MEMBER' FROM SYSTEM_RANGE(0, ?)",
+                BenchmarkFixtures.LEDGER_ID, members - 1);
+        // Skewed payers: member i pays roughly in proportion to i
+        template.update("INSERT INTO expenses (id, ledger_id, amount, description, expense_date, created_by) " +
+                "SELECT 'bench-expense-' || X, ?, MOD(X * 7919, 100000) / 100.0 + 1, 'Expense', " +
+                "DATEADD('DAY', MOD(X, 365), DATE '2025-01-01'), " +
+                "'bench-user-' || CAST(FLOOR(SQRT(MOD(X * 31, ? * ?))) AS INT) " +
+                "FROM SYSTEM_RANGE(0, ?)",
+                BenchmarkFixtures.LEDGER_ID, members, members, expenses - 1);
+        template.execute("ANALYZE");
+
+        jdbc = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @TearDown
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS DELETE FILES");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<SettlementCalculator.Transfer> settleLedger() {
+        long[] paid = jdbc.query(SettlementRepository.PAID_TOTALS_SQL,
+                        new MapSqlParameterSource()
+                                .addValue("ledgerId", BenchmarkFixtures.LEDGER_ID)
+                                .addValue("startDate", START)
+                                .addValue("endDate", END)
+                                .addValue("unitScale", 100L),
+                        (rs, rowNum) -> rs.getLong("paidMinor"))
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        return SettlementCalculator.settle(SettlementCalculator.balances(paid));
+    }
+}
@@ -0,0 +1,43 @@
+package com.famoney.api.settlement.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SettlementCalculator balances and greedy matching for random paid totals, without the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SettlementCalculatorBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int members;
+
+    private long[] paid;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        paid = new long[members];
+        for (int i = 0; i < members; i++) {
+            // Up to 100M minor units each; some members paid nothing
+            paid[i] = i % 5 == 0 ? 0 : random.nextLong(100_000_000L);
+        }
+    }
+
+    @Benchmark
+    public List<SettlementCalculator.Transfer> settle() {
+        return SettlementCalculator.settle(SettlementCalculator.balances(paid));
+    }
+}
@@ -6,27 +6,42 @@ import com.famoney.api.auth.dto.RefreshTokenRequest;
 import com.famoney.api.auth.dto.SignupRequest;
 import com.famoney.api.auth.service.AuthService;
 import com.famoney.api.common.security.CustomUserDetails;
+import com.famoney.api.common.web.IdempotencyStore;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+
 /**
  * REST Controller for authentication endpoints.
  */
 @RestController
 @RequestMapping("/api/v1/auth")
-@RequiredArgsConstructor
 @Tag(name = "Auth", description = "Authentication API")
 public class AuthController {
 
     private final AuthService authService;
+    private final IdempotencyStore idempotencyStore;
+    private final Duration refreshIdempotencyTtl;
+
+    public AuthController(
+            AuthService authService,
+            IdempotencyStore idempotencyStore,
+            @Value("${idempotency.refresh-ttl:60s}") Duration refreshIdempotencyTtl
+    ) {
+        this.authService = authService;
+        this.idempotencyStore = idempotencyStore;
+        this.refreshIdempotencyTtl = refreshIdempotencyTtl;
+    }
 
     /**
      * Register a new user.
@@ -61,14 +76,22 @@ public class AuthController {
      * Refresh access token using refresh token.
      */
     @PostMapping("/refresh")
-    @Operation(summary = "토큰 갱신", description = "리프레시 토큰으로 새로운 액세스 토큰을 발급받습니다.")
+    @Operation(summary = "토큰 갱신", description = "리프레시 토큰으로 새로운 액세스 토큰을 발급받습니다. " +
+            "Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청은 토큰을 다시 교체하지 않고 첫 응답을 돌려받습니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "토큰 갱신 성공"),
             @ApiResponse(responseCode = "401", description = "유효하지 않은 리프레시 토큰")
     })
-    public ResponseEntity<AuthResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
-        AuthResponse response = authService.refreshToken(request);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<AuthResponse> refreshToken(
+            @Parameter(description = "재시도 시 리프레시 토큰이 다시 교체되지 않도록 하는 요청 고유 키")
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody RefreshTokenRequest request) {
+        // Scoped by the refresh token itself, so only its holder can replay the issued tokens.
+        // Kept briefly, and replayed only while the issued refresh token is unused and not revoked (logout)
+        String scope = "auth-refresh:" + request.getRefreshToken();
+        return idempotencyStore.execute(scope, idempotencyKey, request, refreshIdempotencyTtl,
+                response -> authService.isActiveRefreshToken(response.getRefreshToken()),
+                () -> ResponseEntity.ok(authService.refreshToken(request)));
     }
 
     /**
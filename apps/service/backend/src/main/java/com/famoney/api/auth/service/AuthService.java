@@ -103,7 +103,7 @@ public class AuthService {
         log.debug("Attempting to refresh token");
 
         // Validate the JWT structure of the refresh token
-        if (!jwtTokenProvider.validateToken(token) || !jwtTokenProvider.isRefreshToken(token)) {
+        if (!jwtTokenProvider.isRefreshToken(token)) {
             throw new InvalidTokenException("Invalid refresh token");
         }
 
@@ -125,6 +125,15 @@ public class AuthService {
         return createAuthResponse(user);
     }
 
+    /**
+     * Check whether a refresh token is stored, unused, not revoked and not expired.
+     * Reads the primary, as the token may have been issued moments ago.
+     */
+    @Transactional
+    public boolean isActiveRefreshToken(String token) {
+        return refreshTokenRepository.findValidToken(token, LocalDateTime.now()).isPresent();
+    }
+
     /**
      * Logout user by revoking all refresh tokens.
      *
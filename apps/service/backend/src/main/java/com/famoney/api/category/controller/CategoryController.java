@@ -4,6 +4,9 @@ import com.famoney.api.category.dto.CategoryResponse;
 import com.famoney.api.category.dto.CreateCategoryRequest;
 import com.famoney.api.category.service.CategoryService;
 import com.famoney.api.common.security.CustomUserDetails;
+import com.famoney.api.common.security.RequiresLedgerRole;
+import com.famoney.api.common.web.LedgerETag;
+import com.famoney.api.member.entity.MemberRole;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -34,9 +37,12 @@ public class CategoryController {
      * Get all categories for a ledger.
      */
     @GetMapping
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @LedgerETag
     @Operation(summary = "카테고리 목록 조회", description = "원장에서 사용 가능한 모든 카테고리를 조회합니다. (기본 + 커스텀)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "401", description = "인증 필요"),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음")
     })
@@ -51,6 +57,7 @@ public class CategoryController {
      * Create a custom category.
      */
     @PostMapping
+    @RequiresLedgerRole(value = MemberRole.ADMIN, message = "Only OWNER and ADMIN can create categories")
     @Operation(summary = "커스텀 카테고리 생성", description = "원장에 커스텀 카테고리를 생성합니다. OWNER 또는 ADMIN만 가능합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "생성 성공"),
@@ -70,6 +77,7 @@ public class CategoryController {
      * Delete a custom category.
      */
     @DeleteMapping("/{categoryId}")
+    @RequiresLedgerRole(value = MemberRole.ADMIN, message = "Only OWNER and ADMIN can delete categories")
     @Operation(summary = "커스텀 카테고리 삭제", description = "커스텀 카테고리를 삭제합니다. 기본 카테고리는 삭제할 수 없습니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "삭제 성공"),
@@ -44,6 +44,12 @@ public class Category {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Ledger version of the last change to this row, for delta sync.
+     */
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
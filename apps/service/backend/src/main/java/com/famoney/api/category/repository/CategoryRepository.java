@@ -37,6 +37,15 @@ public interface CategoryRepository extends JpaRepository<Category, String> {
     @Query("SELECT c FROM Category c WHERE c.id = :id AND (c.isDefault = true OR c.ledgerId = :ledgerId)")
     Optional<Category> findByIdForLedger(@Param("id") String id, @Param("ledgerId") String ledgerId);
 
+    /**
+     * Find custom categories of a ledger changed after a change sequence, up to and including another.
+     */
+    @Query("SELECT c FROM Category c WHERE c.ledgerId = :ledgerId " +
+           "AND c.changeSeq > :afterSeq AND c.changeSeq <= :upToSeq")
+    List<Category> findChangedBetween(@Param("ledgerId") String ledgerId,
+                                      @Param("afterSeq") long afterSeq,
+                                      @Param("upToSeq") long upToSeq);
+
     /**
      * Check if a category with the same name already exists for the ledger.
      */
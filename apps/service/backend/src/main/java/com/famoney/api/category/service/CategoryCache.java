@@ -0,0 +1,61 @@
+package com.famoney.api.category.service;
+
+import com.famoney.api.category.dto.CategoryResponse;
+import com.famoney.api.category.entity.Category;
+import com.famoney.api.category.repository.CategoryRepository;
+import com.famoney.api.common.cache.ReferenceCaches;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Categories available to each ledger (default + custom), cached per ledger version
+ * in the "ledgerCategories" cache.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryCache {
+
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * Get the categories of a ledger keyed by ID, in display order (defaults first, then by name).
+     */
+    @Cacheable(cacheNames = ReferenceCaches.LEDGER_CATEGORIES, key = ReferenceCaches.LEDGER_VERSION_KEY,
+            condition = ReferenceCaches.OUTSIDE_WRITE_TRANSACTION)
+    public Map<String, CachedCategory> getCategoriesById(String ledgerId) {
+        Map<String, CachedCategory> categories = new LinkedHashMap<>();
+        categoryRepository.findAllForLedger(ledgerId)
+                .forEach(category -> categories.put(category.getId(), CachedCategory.from(category)));
+        return Collections.unmodifiableMap(categories);
+    }
+
+    /**
+     * Snapshot of a category; map to a {@link CategoryResponse} before handing it out.
+     */
+    public record CachedCategory(String id, String ledgerId, String name, String color, String icon,
+                                 boolean isDefault, LocalDateTime createdAt) {
+
+        static CachedCategory from(Category category) {
+            return new CachedCategory(category.getId(), category.getLedgerId(), category.getName(),
+                    category.getColor(), category.getIcon(), category.isDefault(), category.getCreatedAt());
+        }
+
+        public CategoryResponse toResponse() {
+            return CategoryResponse.builder()
+                    .id(id)
+                    .ledgerId(ledgerId)
+                    .name(name)
+                    .color(color)
+                    .icon(icon)
+                    .isDefault(isDefault)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+}
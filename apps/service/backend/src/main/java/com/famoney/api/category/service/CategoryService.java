@@ -8,8 +8,10 @@ import com.famoney.api.common.exception.BadRequestException;
 import com.famoney.api.common.exception.ForbiddenException;
 import com.famoney.api.common.exception.ResourceNotFoundException;
 import com.famoney.api.expense.repository.ExpenseRepository;
-import com.famoney.api.member.entity.Member;
-import com.famoney.api.member.repository.MemberRepository;
+import com.famoney.api.ledger.service.LedgerVersionService;
+import com.famoney.api.sync.entity.LedgerTombstone;
+import com.famoney.api.sync.entity.TombstoneType;
+import com.famoney.api.sync.repository.LedgerTombstoneRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 
 /**
  * Service for category operations.
+ * Ledger membership and minimum roles are checked by {@code @RequiresLedgerRole} on the controller.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,8 +31,10 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
-    private final MemberRepository memberRepository;
     private final ExpenseRepository expenseRepository;
+    private final CategoryCache categoryCache;
+    private final LedgerVersionService ledgerVersionService;
+    private final LedgerTombstoneRepository ledgerTombstoneRepository;
 
     /**
      * Get all categories available for a ledger (default + custom).
@@ -37,12 +42,8 @@ public class CategoryService {
     public List<CategoryResponse> getCategories(String userId, String ledgerId) {
         log.debug("Getting categories for ledger: {} by user: {}", ledgerId, userId);
 
-        // Verify user is a member
-        memberRepository.findByUserIdAndLedgerId(userId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
-        return categoryRepository.findAllForLedger(ledgerId).stream()
-                .map(CategoryResponse::from)
+        return categoryCache.getCategoriesById(ledgerId).values().stream()
+                .map(CategoryCache.CachedCategory::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -54,13 +55,6 @@ public class CategoryService {
     public CategoryResponse createCategory(String userId, String ledgerId, CreateCategoryRequest request) {
         log.info("Creating category for ledger: {} by user: {}", ledgerId, userId);
 
-        Member member = memberRepository.findByUserIdAndLedgerId(userId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
-        if (!member.canModifyLedger()) {
-            throw new ForbiddenException("Only OWNER and ADMIN can create categories");
-        }
-
         // Check for duplicate name
         if (categoryRepository.existsByLedgerIdAndName(ledgerId, request.getName())) {
             throw new BadRequestException("Category with this name already exists");
@@ -72,6 +66,7 @@ public class CategoryService {
                 .color(request.getColor() != null ? request.getColor() : "#808080")
                 .icon(request.getIcon())
                 .isDefault(false)
+                .changeSeq(ledgerVersionService.bump(ledgerId))
                 .build();
 
         category = categoryRepository.save(category);
@@ -89,13 +84,6 @@ public class CategoryService {
     public void deleteCategory(String userId, String ledgerId, String categoryId) {
         log.info("Deleting category: {} from ledger: {} by user: {}", categoryId, ledgerId, userId);
 
-        Member member = memberRepository.findByUserIdAndLedgerId(userId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
-        if (!member.canModifyLedger()) {
-            throw new ForbiddenException("Only OWNER and ADMIN can delete categories");
-        }
-
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "id", categoryId));
 
@@ -114,6 +102,12 @@ public class CategoryService {
         }
 
         categoryRepository.delete(category);
+        ledgerTombstoneRepository.save(LedgerTombstone.builder()
+                .entityId(categoryId)
+                .ledgerId(ledgerId)
+                .entityType(TombstoneType.CATEGORY)
+                .changeSeq(ledgerVersionService.bump(ledgerId))
+                .build());
         log.info("Deleted category: {}", categoryId);
     }
 }
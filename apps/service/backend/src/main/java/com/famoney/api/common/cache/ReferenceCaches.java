@@ -0,0 +1,39 @@
+package com.famoney.api.common.cache;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Names and shared rules of the reference data caches (ledger categories, ledgers, user display info).
+ * Entries are keyed by the ledger version as well as the ledger, so a change committed on any instance
+ * moves readers to a new key; superseded entries are never read again and expire after the TTL.
+ */
+public final class ReferenceCaches {
+
+    public static final String LEDGER_CATEGORIES = "ledgerCategories";
+    public static final String LEDGERS = "ledgers";
+    public static final String USER_DISPLAY = "userDisplay";
+
+    /**
+     * Key of a ledger's entry at its current version.
+     */
+    public static final String LEDGER_VERSION_KEY = "{#ledgerId, @ledgerVersionService.currentVersion(#ledgerId)}";
+
+    /**
+     * Cache condition, see {@link #outsideWriteTransaction()}.
+     */
+    public static final String OUTSIDE_WRITE_TRANSACTION =
+            "T(com.famoney.api.common.cache.ReferenceCaches).outsideWriteTransaction()";
+
+    private ReferenceCaches() {
+    }
+
+    /**
+     * Whether a read may use and fill the caches.
+     * A read-write transaction sees the version it bumped before commit, and that number is reused
+     * if it rolls back, so only reads outside one are cached.
+     */
+    public static boolean outsideWriteTransaction() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,36 @@
+package com.famoney.api.common.config;
+
+import com.famoney.api.common.cache.ReferenceCaches;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * In-process Caffeine caches for reference data.
+ * Every cache expires entries after a TTL, is bounded, and records hit/miss counts,
+ * which are published as cache metrics under the cache name.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${reference-cache.ttl:10m}") Duration ttl,
+            @Value("${reference-cache.max-size:10000}") long maxSize
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                ReferenceCaches.LEDGER_CATEGORIES, ReferenceCaches.LEDGERS, ReferenceCaches.USER_DISPLAY);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats());
+        return cacheManager;
+    }
+}
@@ -1,5 +1,6 @@
 package com.famoney.api.common.config;
 
+import com.famoney.api.common.security.CurrentLedgerRole;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
@@ -8,6 +9,7 @@ import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +19,11 @@ import java.util.List;
 @Configuration
 public class OpenApiConfig {
 
+    static {
+        // Resolved by CurrentLedgerRoleArgumentResolver, not a request parameter
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(CurrentLedgerRole.class);
+    }
+
     @Value("${server.port:8080}")
     private int serverPort;
 
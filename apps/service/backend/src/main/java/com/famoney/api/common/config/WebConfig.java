@@ -0,0 +1,36 @@
+package com.famoney.api.common.config;
+
+import com.famoney.api.common.security.CurrentLedgerRoleArgumentResolver;
+import com.famoney.api.common.security.LedgerRoleInterceptor;
+import com.famoney.api.common.web.LedgerETagInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC configuration.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final LedgerRoleInterceptor ledgerRoleInterceptor;
+    private final LedgerETagInterceptor ledgerETagInterceptor;
+    private final CurrentLedgerRoleArgumentResolver currentLedgerRoleArgumentResolver;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(ledgerRoleInterceptor).addPathPatterns("/api/v1/ledgers/**");
+        // After the role check, so non-members cannot probe ledger versions
+        registry.addInterceptor(ledgerETagInterceptor).addPathPatterns("/api/v1/ledgers/**");
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentLedgerRoleArgumentResolver);
+    }
+}
@@ -0,0 +1,94 @@
+package com.famoney.api.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Periodically checks the replica and decides whether read-only transactions may use it.
+ * The replica is usable when the lag query succeeds and reports no more than the maximum lag;
+ * with no lag query only connectivity is checked.
+ * Until the first successful check, reads go to the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int CHECK_TIMEOUT_SECONDS = 2;
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read replica at the last check")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("Whether read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    /**
+     * Check the replica's lag and update its availability.
+     */
+    @Scheduled(fixedDelayString = "${database.replica.lag-check-interval:5s}")
+    public void check() {
+        boolean wasAvailable = available;
+        try (Connection connection = replica.getConnection()) {
+            lagSeconds = measureLag(connection);
+            available = lagSeconds <= maxLag.toMillis() / 1000.0;
+        } catch (SQLException e) {
+            lagSeconds = Double.NaN;
+            available = false;
+            if (wasAvailable) {
+                log.warn("Replica check failed, routing reads to primary: {}", e.getMessage());
+            }
+            return;
+        }
+
+        if (wasAvailable != available) {
+            log.info("Replica {} (lag {}s, max {}s)", available ? "in use" : "lagging, routing reads to primary",
+                    lagSeconds, maxLag.toSeconds());
+        }
+    }
+
+    private double measureLag(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(lagQuery)) {
+            if (!connection.isValid(CHECK_TIMEOUT_SECONDS)) {
+                throw new SQLException("Replica connection is not valid");
+            }
+            return 0;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+            try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    throw new SQLException("Lag query returned no rows");
+                }
+                double lag = rs.getDouble(1);
+                return rs.wasNull() ? 0 : lag;
+            }
+        }
+    }
+}
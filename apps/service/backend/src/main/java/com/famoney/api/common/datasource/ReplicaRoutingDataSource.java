@@ -0,0 +1,62 @@
+package com.famoney.api.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * DataSource sending read-only transactions to the replica and everything else to the primary.
+ * Falls back to the primary while the replica is unavailable or lagging.
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the connection is fetched after the transaction's read-only flag is set.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter fallbackConnections;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.primaryConnections = routedCounter(meterRegistry, "primary", false);
+        this.replicaConnections = routedCounter(meterRegistry, "replica", false);
+        this.fallbackConnections = routedCounter(meterRegistry, "primary", true);
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryConnections.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaAvailable()) {
+            fallbackConnections.increment();
+            return Target.PRIMARY;
+        }
+        replicaConnections.increment();
+        return Target.REPLICA;
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, String pool, boolean fallback) {
+        return Counter.builder("db.connections.routed")
+                .description("Connections handed out by the replica routing DataSource")
+                .tag("pool", pool)
+                .tag("fallback", String.valueOf(fallback))
+                .register(meterRegistry);
+    }
+}
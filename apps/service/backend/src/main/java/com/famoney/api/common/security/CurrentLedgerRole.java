@@ -0,0 +1,17 @@
+package com.famoney.api.common.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the caller's {@link com.famoney.api.member.entity.MemberRole} in the current ledger,
+ * as resolved by {@link RequiresLedgerRole} for the same request.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentLedgerRole {
+}
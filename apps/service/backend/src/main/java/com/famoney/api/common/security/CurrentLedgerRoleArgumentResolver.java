@@ -0,0 +1,34 @@
+package com.famoney.api.common.security;
+
+import com.famoney.api.member.entity.MemberRole;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentLedgerRole} parameters from the role stored by {@link LedgerRoleInterceptor}.
+ */
+@Component
+public class CurrentLedgerRoleArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentLedgerRole.class)
+                && MemberRole.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object role = webRequest.getAttribute(LedgerRoleInterceptor.ROLE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (role == null) {
+            throw new IllegalStateException("@CurrentLedgerRole requires @RequiresLedgerRole on "
+                    + parameter.getExecutable().getName());
+        }
+        return role;
+    }
+}
@@ -37,12 +37,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                if (jwtTokenProvider.isAccessToken(jwt)) {
-                    String userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                    String email = jwtTokenProvider.getEmailFromToken(jwt);
+            VerifiedToken token = jwtTokenProvider.verify(jwt).orElse(null);
 
-                    CustomUserDetails userDetails = new CustomUserDetails(userId, email);
+            if (token != null) {
+                if (token.isAccessToken()) {
+                    String email = token.getEmail();
+
+                    CustomUserDetails userDetails = new CustomUserDetails(token.getUserId(), email);
 
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
@@ -1,14 +1,24 @@
 package com.famoney.api.common.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,17 +29,51 @@ import java.util.UUID;
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
+    /**
+     * Recently verified tokens keyed by SHA-256 of the token; null when disabled.
+     * Entries expire together with their token.
+     */
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.verified-cache-size:1000}") long verifiedCacheSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(new Expiry<String, VerifiedToken>() {
+                            @Override
+                            public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                                return Math.max(0, Duration.between(Instant.now(), token.getExpiresAt()).toNanos());
+                            }
+
+                            @Override
+                            public long expireAfterUpdate(String key, VerifiedToken token, long currentTime,
+                                                          long currentDuration) {
+                                return currentDuration;
+                            }
+
+                            @Override
+                            public long expireAfterRead(String key, VerifiedToken token, long currentTime,
+                                                        long currentDuration) {
+                                return currentDuration;
+                            }
+                        })
+                        .build()
+                : null;
     }
 
     /**
@@ -74,37 +118,36 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Get user ID from token.
+     * Verify a token once and return its claims.
+     * Signature, structure and expiry are checked; recently verified tokens are served from memory.
      *
      * @param token JWT token
-     * @return User ID from token subject
+     * @return Verified claims, or empty if the token is invalid or expired
      */
-    public String getUserIdFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.getSubject();
-    }
+    public Optional<VerifiedToken> verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
 
-    /**
-     * Get email from token.
-     *
-     * @param token JWT token
-     * @return Email claim from token
-     */
-    public String getEmailFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("email", String.class);
-    }
+        String key = verifiedTokens != null ? sha256(token) : null;
+        if (key != null) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(key);
+            if (cached != null && !cached.isExpiredAt(Instant.now())) {
+                return Optional.of(cached);
+            }
+        }
 
-    /**
-     * Validate token and check if it's valid.
-     *
-     * @param token JWT token to validate
-     * @return true if token is valid
-     */
-    public boolean validateToken(String token) {
         try {
-            parseToken(token);
-            return true;
+            Claims claims = parseToken(token);
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get("email", String.class),
+                    claims.get("type", String.class),
+                    claims.getExpiration().toInstant());
+            if (key != null) {
+                verifiedTokens.put(key, verified);
+            }
+            return Optional.of(verified);
         } catch (MalformedJwtException ex) {
             log.warn("Invalid JWT token: {}", ex.getMessage());
         } catch (ExpiredJwtException ex) {
@@ -116,7 +159,17 @@ public class JwtTokenProvider {
         } catch (JwtException ex) {
             log.warn("JWT validation failed: {}", ex.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Validate token and check if it's valid.
+     *
+     * @param token JWT token to validate
+     * @return true if token is valid
+     */
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 
     /**
@@ -126,12 +179,7 @@ public class JwtTokenProvider {
      * @return true if token type is "access"
      */
     public boolean isAccessToken(String token) {
-        try {
-            Claims claims = parseToken(token);
-            return "access".equals(claims.get("type", String.class));
-        } catch (JwtException ex) {
-            return false;
-        }
+        return verify(token).map(VerifiedToken::isAccessToken).orElse(false);
     }
 
     /**
@@ -141,12 +189,7 @@ public class JwtTokenProvider {
      * @return true if token type is "refresh"
      */
     public boolean isRefreshToken(String token) {
-        try {
-            Claims claims = parseToken(token);
-            return "refresh".equals(claims.get("type", String.class));
-        } catch (JwtException ex) {
-            return false;
-        }
+        return verify(token).map(VerifiedToken::isRefreshToken).orElse(false);
     }
 
     /**
@@ -175,10 +218,15 @@ public class JwtTokenProvider {
      * @throws JwtException if token is invalid
      */
     private Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
     }
 }
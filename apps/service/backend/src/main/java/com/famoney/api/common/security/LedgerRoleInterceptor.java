@@ -0,0 +1,78 @@
+package com.famoney.api.common.security;
+
+import com.famoney.api.common.exception.ForbiddenException;
+import com.famoney.api.common.exception.UnauthorizedException;
+import com.famoney.api.member.entity.MemberRole;
+import com.famoney.api.member.service.LedgerAccessCache;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Enforces {@link RequiresLedgerRole} on controller methods.
+ * Resolves the caller's role once per request and stores it for {@link CurrentLedgerRole}.
+ */
+@Component
+@RequiredArgsConstructor
+public class LedgerRoleInterceptor implements HandlerInterceptor {
+
+    /**
+     * Request attribute holding the caller's resolved {@link MemberRole}.
+     */
+    public static final String ROLE_ATTRIBUTE = LedgerRoleInterceptor.class.getName() + ".role";
+
+    private static final String LEDGER_ID_VARIABLE = "ledgerId";
+
+    private final LedgerAccessCache ledgerAccessCache;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async dispatches resume a request that was already checked
+        if (request.getDispatcherType() == DispatcherType.ASYNC
+                || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RequiresLedgerRole requirement = handlerMethod.getMethodAnnotation(RequiresLedgerRole.class);
+        if (requirement == null) {
+            return true;
+        }
+
+        String ledgerId = resolveLedgerId(request, handlerMethod);
+        MemberRole role = ledgerAccessCache.requireRole(currentUserId(), ledgerId);
+        if (!role.hasAtLeast(requirement.value())) {
+            throw new ForbiddenException(requirement.message());
+        }
+
+        request.setAttribute(ROLE_ATTRIBUTE, role);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String resolveLedgerId(HttpServletRequest request, HandlerMethod handlerMethod) {
+        Map<String, String> variables = (Map<String, String>)
+                request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String ledgerId = variables != null ? variables.get(LEDGER_ID_VARIABLE) : null;
+        if (ledgerId == null) {
+            throw new IllegalStateException("@RequiresLedgerRole requires a {ledgerId} path variable: "
+                    + handlerMethod.getShortLogMessage());
+        }
+        return ledgerId;
+    }
+
+    private String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            throw new UnauthorizedException();
+        }
+        return userDetails.getId();
+    }
+}
@@ -0,0 +1,30 @@
+package com.famoney.api.common.security;
+
+import com.famoney.api.member.entity.MemberRole;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires the caller to hold at least the given role in the ledger identified by the
+ * {@code ledgerId} path variable. Checked by {@link LedgerRoleInterceptor} before the
+ * controller method runs; the resolved role can be injected with {@link CurrentLedgerRole}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresLedgerRole {
+
+    /**
+     * Minimum role required.
+     */
+    MemberRole value() default MemberRole.VIEWER;
+
+    /**
+     * Message of the ForbiddenException thrown when the caller's role is lower.
+     */
+    String message() default "You do not have permission for this ledger";
+}
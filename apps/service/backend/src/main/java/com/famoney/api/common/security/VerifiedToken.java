@@ -0,0 +1,43 @@
+package com.famoney.api.common.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Claims of a JWT whose signature and expiry have been verified.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private static final String ACCESS_TYPE = "access";
+    private static final String REFRESH_TYPE = "refresh";
+
+    private final String userId;
+    private final String email;
+    private final String type;
+    private final Instant expiresAt;
+
+    /**
+     * Check if this is an access token.
+     */
+    public boolean isAccessToken() {
+        return ACCESS_TYPE.equals(type);
+    }
+
+    /**
+     * Check if this is a refresh token.
+     */
+    public boolean isRefreshToken() {
+        return REFRESH_TYPE.equals(type);
+    }
+
+    /**
+     * Check if the token has expired at the given instant.
+     */
+    public boolean isExpiredAt(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
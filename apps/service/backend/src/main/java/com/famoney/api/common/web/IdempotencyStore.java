@@ -0,0 +1,205 @@
+package com.famoney.api.common.web;
+
+import com.famoney.api.common.exception.BadRequestException;
+import com.famoney.api.common.exception.DuplicateResourceException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-process store of responses by {@code Idempotency-Key}, so a retried write returns the first
+ * response instead of running again.
+ * <p>
+ * Keys are scoped by the caller (e.g. user and ledger) and stored as a SHA-256 of scope and key.
+ * The first request for a key runs the action; a concurrent duplicate waits for its result rather than
+ * running it. A failed action is not stored: waiters get the same error and a later retry runs again.
+ * A key reused with a different request body is rejected. Entries expire after a TTL, which a caller
+ * may shorten for sensitive responses, and the store is bounded. Keys are remembered by this process only.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    /**
+     * Set on a response replayed from the store.
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String CACHE_NAME = "idempotency";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> cache;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+
+    public IdempotencyStore(
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.max-size:100000}") long maxSize,
+            @Value("${idempotency.wait-timeout:30s}") Duration waitTimeout
+    ) {
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.cache = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.ttl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Run an action once per idempotency key, or return the response stored for the key.
+     * Without a key the action simply runs.
+     *
+     * @param scope   owner of the key, so equal keys from different callers never meet
+     * @param key     the {@code Idempotency-Key} header value, may be null
+     * @param request the request body, compared with the one first sent with the key
+     * @throws BadRequestException         if the key is too long
+     * @throws DuplicateResourceException  if the key was used for a different request,
+     *                                     or its first request is still running after the wait timeout
+     */
+    public <T> ResponseEntity<T> execute(String scope, String key, Object request,
+                                         Supplier<ResponseEntity<T>> action) {
+        return execute(scope, key, request, ttl, body -> true, action);
+    }
+
+    /**
+     * Run an action once per idempotency key with its own TTL, replaying a stored response only while
+     * it is still valid. An invalid stored response is dropped and the request runs as a new one.
+     *
+     * @param ttl        how long the response is kept, at most the store's TTL
+     * @param replayable whether a stored response body may still be returned
+     * @see #execute(String, String, Object, Supplier)
+     */
+    public <T> ResponseEntity<T> execute(String scope, String key, Object request, Duration ttl,
+                                         Predicate<? super T> replayable, Supplier<ResponseEntity<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException(HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String cacheKey = sha256(scope + '\n' + key);
+        Entry entry = new Entry(request, ttl.compareTo(this.ttl) < 0 ? ttl : this.ttl);
+        while (true) {
+            Entry existing = cache.asMap().putIfAbsent(cacheKey, entry);
+            if (existing == null) {
+                return run(cacheKey, entry, action);
+            }
+            if (!existing.request.equals(request)) {
+                throw new DuplicateResourceException(HEADER + " was already used for a different request");
+            }
+            ResponseEntity<T> response = cast(await(existing));
+            if (replayable.test(response.getBody())) {
+                log.debug("Replaying response for idempotency key in scope: {}", scope);
+                return replay(response);
+            }
+            cache.asMap().remove(cacheKey, existing);
+        }
+    }
+
+    private <T> ResponseEntity<T> run(String cacheKey, Entry entry, Supplier<ResponseEntity<T>> action) {
+        try {
+            ResponseEntity<T> response = action.get();
+            entry.result.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            cache.asMap().remove(cacheKey, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private ResponseEntity<?> await(Entry entry) {
+        try {
+            return entry.result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new DuplicateResourceException("A request with this " + HEADER + " is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for idempotent request", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseEntity<T> cast(ResponseEntity<?> response) {
+        return (ResponseEntity<T>) response;
+    }
+
+    private static <T> ResponseEntity<T> replay(ResponseEntity<T> response) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+        headers.set(REPLAYED_HEADER, "true");
+        return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * The request first sent with a key and its response, completed once the action finishes.
+     */
+    private static final class Entry {
+
+        private final Object request;
+        private final Duration ttl;
+        private final CompletableFuture<ResponseEntity<?>> result = new CompletableFuture<>();
+
+        private Entry(Object request, Duration ttl) {
+            this.request = request;
+            this.ttl = ttl;
+        }
+    }
+}
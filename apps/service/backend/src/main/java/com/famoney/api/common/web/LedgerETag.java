@@ -0,0 +1,20 @@
+package com.famoney.api.common.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Serves a GET of ledger content with a strong ETag and Last-Modified derived from the version of the
+ * ledger identified by the {@code ledgerId} path variable. Handled by {@link LedgerETagInterceptor},
+ * which answers a matching {@code If-None-Match} with 304 before the controller method runs.
+ * <p>
+ * Only for responses that depend on nothing but the ledger's content, the caller and the request URL.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LedgerETag {
+}
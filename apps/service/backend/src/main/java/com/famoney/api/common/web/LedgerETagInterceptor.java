@@ -0,0 +1,88 @@
+package com.famoney.api.common.web;
+
+import com.famoney.api.common.security.CustomUserDetails;
+import com.famoney.api.ledger.repository.LedgerRepository;
+import com.famoney.api.ledger.service.LedgerVersionService;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Handles {@link LedgerETag} on controller methods.
+ * Must run after {@code LedgerRoleInterceptor}, so only members learn whether a ledger changed.
+ * <p>
+ * The ETag combines the ledger version with a hash of the caller and the request URL, since the
+ * same ledger version renders differently per page, filter and role. Responses are marked
+ * {@code private, no-cache} so browsers keep them and revalidate on every use.
+ */
+@Component
+@RequiredArgsConstructor
+public class LedgerETagInterceptor implements HandlerInterceptor {
+
+    private static final String LEDGER_ID_VARIABLE = "ledgerId";
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final LedgerVersionService ledgerVersionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !(handler instanceof HandlerMethod handlerMethod)
+                || !handlerMethod.hasMethodAnnotation(LedgerETag.class)) {
+            return true;
+        }
+
+        String ledgerId = resolveLedgerId(request, handlerMethod);
+        // Missing or deleted ledgers fall through to the controller's 404
+        Optional<LedgerRepository.LedgerVersion> version = ledgerVersionService.findVersion(ledgerId);
+        if (version.isEmpty()) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        String etag = "\"" + version.get().getVersion() + "-" + requestHash(request) + "\"";
+        long lastModified = version.get().getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // Sets ETag and Last-Modified, and 304 when the client's copy is current
+        return !new ServletWebRequest(request, response).checkNotModified(etag, lastModified);
+    }
+
+    @SuppressWarnings("unchecked")
+    private String resolveLedgerId(HttpServletRequest request, HandlerMethod handlerMethod) {
+        Map<String, String> variables = (Map<String, String>)
+                request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String ledgerId = variables != null ? variables.get(LEDGER_ID_VARIABLE) : null;
+        if (ledgerId == null) {
+            throw new IllegalStateException("@LedgerETag requires a {ledgerId} path variable: "
+                    + handlerMethod.getShortLogMessage());
+        }
+        return ledgerId;
+    }
+
+    private String requestHash(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userId = authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user
+                ? user.getId()
+                : "";
+        String key = userId + " " + request.getRequestURI() + "?" + request.getQueryString();
+        return DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+}
@@ -0,0 +1,53 @@
+package com.famoney.api.event.controller;
+
+import com.famoney.api.common.security.CustomUserDetails;
+import com.famoney.api.common.security.RequiresLedgerRole;
+import com.famoney.api.event.service.LedgerEventBus;
+import com.famoney.api.member.entity.MemberRole;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for the live feed of ledger changes.
+ */
+@RestController
+@RequestMapping("/api/v1/ledgers/{ledgerId}/events")
+@RequiredArgsConstructor
+@Tag(name = "Ledger Events", description = "Ledger live feed API")
+@SecurityRequirement(name = "bearerAuth")
+public class LedgerEventController {
+
+    private final LedgerEventBus ledgerEventBus;
+
+    /**
+     * Stream changes to a ledger as Server-Sent Events.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @Operation(summary = "원장 변경 실시간 구독",
+            description = "지출과 멤버 변경을 Server-Sent Events로 전달합니다. 이벤트 이름은 변경 유형입니다. " +
+                    "RESYNC 이벤트를 받으면 누락된 변경이 있으므로 원장을 다시 조회해야 합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 시작"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "503", description = "연결 수 초과")
+    })
+    public SseEmitter subscribe(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId,
+            @Parameter(description = "재연결 시 마지막으로 받은 이벤트 ID")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        return ledgerEventBus.subscribe(ledgerId, userDetails.getId(), lastEventId);
+    }
+}
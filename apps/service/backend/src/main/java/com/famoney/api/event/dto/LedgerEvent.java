@@ -0,0 +1,73 @@
+package com.famoney.api.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A committed change to a ledger, pushed to the ledger's live feed subscribers.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerEvent {
+
+    private Type type;
+    private String ledgerId;
+
+    /**
+     * Id of the changed expense or member, if the event is about a single resource.
+     */
+    private String resourceId;
+
+    /**
+     * User who made the change.
+     */
+    private String actorId;
+
+    /**
+     * The resource after the change (ExpenseResponse, MemberResponse), or null.
+     * A removed member's MemberResponse carries only the user's id.
+     */
+    private Object data;
+
+    private LocalDateTime occurredAt;
+
+    /**
+     * Ledger version the change was committed at; usable as a delta sync token.
+     */
+    private Long ledgerVersion;
+
+    public enum Type {
+        EXPENSE_CREATED,
+        EXPENSE_UPDATED,
+        EXPENSE_DELETED,
+        EXPENSES_IMPORTED,
+        MEMBER_ADDED,
+        MEMBER_UPDATED,
+        MEMBER_REMOVED,
+        /**
+         * The ledger was deleted; its live feed connections are closed after this event.
+         */
+        LEDGER_DELETED,
+        /**
+         * Events were dropped for this subscriber; reload the ledger instead of applying deltas.
+         */
+        RESYNC
+    }
+
+    public static LedgerEvent of(Type type, String ledgerId, String resourceId, String actorId, Object data) {
+        return LedgerEvent.builder()
+                .type(type)
+                .ledgerId(ledgerId)
+                .resourceId(resourceId)
+                .actorId(actorId)
+                .data(data)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
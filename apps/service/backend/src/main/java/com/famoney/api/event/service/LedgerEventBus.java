@@ -0,0 +1,318 @@
+package com.famoney.api.event.service;
+
+import com.famoney.api.common.exception.ServiceUnavailableException;
+import com.famoney.api.event.dto.LedgerEvent;
+import com.famoney.api.ledger.repository.LedgerRepository;
+import com.famoney.api.ledger.service.LedgerVersionService;
+import com.famoney.api.outbox.service.OutboxBroadcastHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process, per-ledger event bus pushing committed changes to Server-Sent Events subscribers.
+ * <p>
+ * Every instance reads the outbox events of the ledgers its subscribers follow
+ * ({@link com.famoney.api.outbox.job.OutboxBroadcastPoller}), so only committed changes are delivered,
+ * in commit order per ledger, whichever instance wrote them.
+ * Each subscriber has a bounded buffer drained by its own sender task, so a slow client never blocks
+ * the poller. When a buffer overflows its pending events are dropped and replaced by a single {@link LedgerEvent.Type#RESYNC} marker, after which the client reloads.
+ */
+@Slf4j
+@Component
+public class LedgerEventBus implements OutboxBroadcastHandler {
+
+    private final Map<String, LedgerFeed> feeds = new ConcurrentHashMap<>();
+    private final LedgerVersionService ledgerVersionService;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Executor senders;
+    private final Counter resyncs;
+    private final int bufferSize;
+    private final int maxConnections;
+    private final Duration timeout;
+
+    public LedgerEventBus(
+            LedgerVersionService ledgerVersionService,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${ledger-events.buffer-size:64}") int bufferSize,
+            @Value("${ledger-events.max-connections:10000}") int maxConnections,
+            @Value("${ledger-events.timeout:30m}") Duration timeout,
+            @Value("${ledger-events.sender-pool-size:8}") int senderPoolSize
+    ) {
+        this.ledgerVersionService = ledgerVersionService;
+        this.bufferSize = bufferSize;
+        this.maxConnections = maxConnections;
+        this.timeout = timeout;
+        this.senders = senders(environment, senderPoolSize);
+        this.resyncs = Counter.builder("ledger.events.resyncs")
+                .description("Subscriber buffers that overflowed and were replaced by a resync marker")
+                .register(meterRegistry);
+        Gauge.builder("ledger.events.connections", connections, AtomicInteger::get)
+                .description("Open live feed connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribe to a ledger's events.
+     * A reconnecting client (lastEventId set) gets a resync marker first, as missed events are not kept.
+     *
+     * @throws ServiceUnavailableException if the connection limit is reached
+     */
+    public SseEmitter subscribe(String ledgerId, String userId, String lastEventId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new ServiceUnavailableException("Too many live feed connections, try again later");
+        }
+
+        // Events after the current version; kept if the ledger is already followed
+        long version = ledgerVersionService.findVersion(ledgerId)
+                .map(LedgerRepository.LedgerVersion::getVersion)
+                .orElse(0L);
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(ledgerId, userId, emitter);
+        feeds.compute(ledgerId, (key, feed) -> {
+            LedgerFeed ledgerFeed = feed != null ? feed : new LedgerFeed(version);
+            ledgerFeed.subscriptions.add(subscription);
+            return ledgerFeed;
+        });
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(subscription));
+
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            subscription.overflowed.set(true);
+            subscription.schedule();
+        }
+        log.debug("User {} subscribed to ledger: {}", userId, ledgerId);
+        return emitter;
+    }
+
+    /**
+     * Ledgers with subscribers on this instance, each with the version delivered so far.
+     */
+    @Override
+    public Map<String, Long> followedLedgers() {
+        return feeds.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().deliveredVersion));
+    }
+
+    /**
+     * Deliver an event to the ledger's subscribers.
+     * A removed member's connections, or all of them when the ledger is deleted, are closed once the
+     * event is sent, whichever instance made the change.
+     */
+    @Override
+    public void handle(LedgerEvent event) {
+        LedgerFeed feed = feeds.get(event.getLedgerId());
+        if (feed == null) {
+            return;
+        }
+        feed.deliveredVersion = Math.max(feed.deliveredVersion, event.getLedgerVersion());
+        long id = sequence.incrementAndGet();
+        for (Subscription subscription : feed.subscriptions) {
+            subscription.offer(id, event);
+        }
+
+        if (event.getType() == LedgerEvent.Type.MEMBER_REMOVED) {
+            String userId = removedUserId(event);
+            feed.subscriptions.stream()
+                    .filter(subscription -> subscription.userId.equals(userId))
+                    .forEach(Subscription::finish);
+        } else if (event.getType() == LedgerEvent.Type.LEDGER_DELETED) {
+            feed.subscriptions.forEach(Subscription::finish);
+        }
+    }
+
+    /**
+     * Send a comment line on idle connections, so proxies do not close them.
+     */
+    @Scheduled(fixedDelayString = "${ledger-events.heartbeat-interval:25s}")
+    public void heartbeat() {
+        feeds.values().forEach(feed -> feed.subscriptions.forEach(subscription -> {
+            subscription.heartbeatDue = true;
+            subscription.schedule();
+        }));
+    }
+
+    private void remove(Subscription subscription) {
+        feeds.computeIfPresent(subscription.ledgerId, (key, feed) -> {
+            if (feed.subscriptions.remove(subscription)) {
+                connections.decrementAndGet();
+            }
+            return feed.subscriptions.isEmpty() ? null : feed;
+        });
+    }
+
+    /**
+     * The user of a MEMBER_REMOVED event; its data is the removed MemberResponse read from the outbox.
+     */
+    private static String removedUserId(LedgerEvent event) {
+        return event.getData() instanceof JsonNode data ? data.path("user").path("id").asText(null) : null;
+    }
+
+    /**
+     * A virtual thread per send when enabled; otherwise a fixed pool, where a stalled client
+     * holds a sender thread until its write fails or the connection times out.
+     */
+    private static Executor senders(Environment environment, int poolSize) {
+        return Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("ledger-events-")
+                : Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("ledger-events-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        feeds.values().forEach(feed -> feed.subscriptions.forEach(Subscription::close));
+        if (senders instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private record Pending(long id, LedgerEvent event) {
+    }
+
+    /**
+     * A followed ledger: its subscriptions and the ledger version delivered to them.
+     * The version is written by the outbox poll thread only.
+     */
+    private static final class LedgerFeed {
+
+        private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+        private volatile long deliveredVersion;
+
+        private LedgerFeed(long deliveredVersion) {
+            this.deliveredVersion = deliveredVersion;
+        }
+    }
+
+    /**
+     * One connection: a bounded buffer plus at most one sender task draining it.
+     */
+    private final class Subscription {
+
+        private final String ledgerId;
+        private final String userId;
+        private final SseEmitter emitter;
+        private final Queue<Pending> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean heartbeatDue;
+        private volatile boolean finishing;
+        private volatile boolean closed;
+
+        private Subscription(String ledgerId, String userId, SseEmitter emitter) {
+            this.ledgerId = ledgerId;
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(long id, LedgerEvent event) {
+            if (!buffer.offer(new Pending(id, event))) {
+                // Whatever is pending is stale once the client has to reload
+                if (!overflowed.getAndSet(true)) {
+                    resyncs.increment();
+                }
+                buffer.clear();
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (!closed && sending.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RuntimeException e) {
+                    sending.set(false);
+                    log.warn("Could not schedule live feed send for ledger: {}", ledgerId, e);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                send();
+                if (finishing && buffer.isEmpty()) {
+                    close();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; onCompletion/onError removes the subscription
+                close();
+            } finally {
+                sending.set(false);
+            }
+            if (!closed && (finishing || overflowed.get() || heartbeatDue || !buffer.isEmpty())) {
+                schedule();
+            }
+        }
+
+        private void send() throws IOException {
+            if (heartbeatDue) {
+                heartbeatDue = false;
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+            Pending pending;
+            while (!closed) {
+                if (overflowed.getAndSet(false)) {
+                    buffer.clear();
+                    LedgerEvent resync = LedgerEvent.of(LedgerEvent.Type.RESYNC, ledgerId, null, null, null);
+                    emitter.send(event(sequence.incrementAndGet(), resync));
+                } else if ((pending = buffer.poll()) != null) {
+                    emitter.send(event(pending.id(), pending.event()));
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private SseEmitter.SseEventBuilder event(long id, LedgerEvent event) {
+            return SseEmitter.event()
+                    .id(Long.toString(id))
+                    .name(event.getType().name())
+                    .data(event, MediaType.APPLICATION_JSON);
+        }
+
+        /**
+         * Stop taking events and close once the buffered ones are sent.
+         */
+        void finish() {
+            remove(this);
+            finishing = true;
+            schedule();
+        }
+
+        void close() {
+            closed = true;
+            remove(this);
+            emitter.complete();
+        }
+    }
+}
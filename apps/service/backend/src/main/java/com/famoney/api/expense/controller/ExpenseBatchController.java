@@ -0,0 +1,57 @@
+package com.famoney.api.expense.controller;
+
+import com.famoney.api.common.security.CurrentLedgerRole;
+import com.famoney.api.common.security.CustomUserDetails;
+import com.famoney.api.common.security.RequiresLedgerRole;
+import com.famoney.api.expense.dto.BatchExpenseRequest;
+import com.famoney.api.expense.dto.BatchExpenseResponse;
+import com.famoney.api.expense.service.ExpenseService;
+import com.famoney.api.member.entity.MemberRole;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for the batch expense endpoint.
+ * Mapped on the ledger so the custom method path stays {@code /expenses:batch}.
+ */
+@RestController
+@RequestMapping("/api/v1/ledgers/{ledgerId}")
+@RequiredArgsConstructor
+@Tag(name = "Expenses", description = "Expense management API")
+@SecurityRequirement(name = "bearerAuth")
+public class ExpenseBatchController {
+
+    private final ExpenseService expenseService;
+
+    /**
+     * Create, update and delete expenses in one request.
+     */
+    @PostMapping("/expenses:batch")
+    @RequiresLedgerRole(value = MemberRole.MEMBER, message = "VIEWER cannot modify expenses")
+    @Operation(summary = "지출 일괄 처리",
+            description = "지출 생성/수정/삭제를 한 번에 처리합니다. 항목별 결과를 요청 순서대로 반환하며 " +
+                    "실패한 항목은 다른 항목에 영향을 주지 않습니다. 최대 500건입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<BatchExpenseResponse> batchExpenses(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId,
+            @CurrentLedgerRole MemberRole role,
+            @Valid @RequestBody BatchExpenseRequest request) {
+
+        BatchExpenseResponse response = expenseService.batchExpenses(userDetails.getId(), ledgerId, role, request);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,8 +1,16 @@
 package com.famoney.api.expense.controller;
 
+import com.famoney.api.common.exception.BadRequestException;
+import com.famoney.api.common.security.CurrentLedgerRole;
 import com.famoney.api.common.security.CustomUserDetails;
+import com.famoney.api.common.security.RequiresLedgerRole;
+import com.famoney.api.common.web.IdempotencyStore;
+import com.famoney.api.common.web.LedgerETag;
 import com.famoney.api.expense.dto.*;
+import com.famoney.api.expense.service.ExpenseExportService;
+import com.famoney.api.expense.service.ExpenseImportService;
 import com.famoney.api.expense.service.ExpenseService;
+import com.famoney.api.member.entity.MemberRole;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,12 +23,21 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * REST Controller for expense endpoints.
@@ -33,14 +50,21 @@ import java.time.LocalDate;
 public class ExpenseController {
 
     private final ExpenseService expenseService;
+    private final ExpenseExportService expenseExportService;
+    private final ExpenseImportService expenseImportService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * Get expenses with filters and pagination.
      */
     @GetMapping
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @LedgerETag
     @Operation(summary = "지출 목록 조회", description = "원장의 지출 목록을 조회합니다. 필터와 페이지네이션을 지원합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 필터"),
             @ApiResponse(responseCode = "401", description = "인증 필요"),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음")
     })
@@ -51,19 +75,119 @@ public class ExpenseController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @Parameter(description = "종료 날짜 (YYYY-MM-DD)")
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @Parameter(description = "카테고리 ID")
-            @RequestParam(required = false) String categoryId,
+            @Parameter(description = "카테고리 ID (여러 개 지정 가능)")
+            @RequestParam(required = false) List<String> categoryId,
+            @Parameter(description = "최소 금액")
+            @RequestParam(required = false) BigDecimal minAmount,
+            @Parameter(description = "최대 금액")
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @Parameter(description = "결제 수단")
+            @RequestParam(required = false) String paymentMethod,
+            @Parameter(description = "작성자 사용자 ID")
+            @RequestParam(required = false) String createdBy,
             @PageableDefault(size = 20, sort = "expenseDate", direction = Sort.Direction.DESC) Pageable pageable) {
 
+        ExpenseQuery query = ExpenseQuery.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .categoryIds(categoryId)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .paymentMethod(paymentMethod)
+                .createdBy(createdBy)
+                .build();
         ExpenseListResponse response = expenseService.getExpenses(
-                userDetails.getId(), ledgerId, startDate, endDate, categoryId, pageable);
+                userDetails.getId(), ledgerId, query, pageable);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get expenses with filters using cursor (keyset) pagination.
+     */
+    @GetMapping("/scroll")
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @Operation(summary = "지출 목록 커서 조회",
+            description = "커서 기반으로 지출 목록을 조회합니다. 전체 개수를 계산하지 않으며 깊은 페이지에서도 일정한 비용으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 필터"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<ExpenseSliceResponse> getExpenseSlice(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId,
+            @Parameter(description = "시작 날짜 (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "카테고리 ID (여러 개 지정 가능)")
+            @RequestParam(required = false) List<String> categoryId,
+            @Parameter(description = "최소 금액")
+            @RequestParam(required = false) BigDecimal minAmount,
+            @Parameter(description = "최대 금액")
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @Parameter(description = "결제 수단")
+            @RequestParam(required = false) String paymentMethod,
+            @Parameter(description = "작성자 사용자 ID")
+            @RequestParam(required = false) String createdBy,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)")
+            @RequestParam(defaultValue = "20") int size) {
+
+        ExpenseQuery query = ExpenseQuery.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .categoryIds(categoryId)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .paymentMethod(paymentMethod)
+                .createdBy(createdBy)
+                .build();
+        ExpenseSliceResponse response = expenseService.getExpenseSlice(
+                userDetails.getId(), ledgerId, query, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Export expenses as a CSV or XLSX file.
+     */
+    @GetMapping("/export")
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @Operation(summary = "지출 내보내기",
+            description = "지출 목록을 CSV 또는 XLSX 파일로 내려받습니다. 최신 지출부터 스트리밍으로 전송합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<StreamingResponseBody> exportExpenses(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId,
+            @Parameter(description = "파일 형식 (CSV, XLSX)")
+            @RequestParam(defaultValue = "CSV") ExpenseExportFormat format,
+            @Parameter(description = "시작 날짜 (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        StreamingResponseBody body = expenseExportService.export(
+                userDetails.getId(), ledgerId, startDate, endDate, format);
+        String filename = "expenses-" + LocalDate.now() + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     /**
      * Get a single expense.
      */
     @GetMapping("/{expenseId}")
+    @RequiresLedgerRole(MemberRole.VIEWER)
     @Operation(summary = "지출 상세 조회", description = "특정 지출의 상세 정보를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -84,26 +208,67 @@ public class ExpenseController {
      * Create a new expense.
      */
     @PostMapping
-    @Operation(summary = "지출 생성", description = "새로운 지출을 생성합니다. VIEWER는 생성할 수 없습니다.")
+    @RequiresLedgerRole(value = MemberRole.MEMBER, message = "VIEWER cannot create expenses")
+    @Operation(summary = "지출 생성", description = "새로운 지출을 생성합니다. VIEWER는 생성할 수 없습니다. " +
+            "Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청은 지출을 다시 만들지 않고 첫 응답을 돌려받습니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "생성 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
             @ApiResponse(responseCode = "401", description = "인증 필요"),
-            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "409", description = "다른 요청에 사용된 Idempotency-Key")
     })
     public ResponseEntity<ExpenseResponse> createExpense(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable String ledgerId,
+            @Parameter(description = "재시도 시 중복 생성을 막기 위한 요청 고유 키")
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CreateExpenseRequest request) {
 
-        ExpenseResponse response = expenseService.createExpense(userDetails.getId(), ledgerId, request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        String scope = "expenses:" + userDetails.getId() + ":" + ledgerId;
+        return idempotencyStore.execute(scope, idempotencyKey, request, () -> {
+            ExpenseResponse response = expenseService.createExpense(userDetails.getId(), ledgerId, request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
+    }
+
+    /**
+     * Import expenses from a CSV file.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RequiresLedgerRole(value = MemberRole.MEMBER, message = "VIEWER cannot create expenses")
+    @Operation(summary = "지출 가져오기",
+            description = "은행/카드 명세서 CSV 파일에서 지출을 가져옵니다. 날짜, 금액, 내용 열이 필요하며 " +
+                    "카테고리 열은 카테고리 이름으로 찾습니다. 오류가 있는 행은 건너뛰고 결과에 보고합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "가져오기 완료 (행별 오류 포함)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 파일 또는 인코딩"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<ExpenseImportResponse> importExpenses(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId,
+            @Parameter(description = "CSV 파일 (첫 행은 헤더)")
+            @RequestPart("file") MultipartFile file,
+            @Parameter(description = "파일 인코딩 (예: UTF-8, EUC-KR)")
+            @RequestParam(defaultValue = "UTF-8") String encoding) throws IOException {
+
+        if (file.isEmpty()) {
+            throw new BadRequestException("File is empty");
+        }
+        try (InputStream in = file.getInputStream()) {
+            ExpenseImportResponse response = expenseImportService.importCsv(
+                    userDetails.getId(), ledgerId, in, encoding, null, ExpenseImportService.Progress.NONE);
+            return ResponseEntity.ok(response);
+        }
     }
 
     /**
      * Update an expense.
      */
     @PatchMapping("/{expenseId}")
+    @RequiresLedgerRole(value = MemberRole.MEMBER, message = "VIEWER cannot edit expenses")
     @Operation(summary = "지출 수정", description = "지출을 수정합니다. 본인의 지출 또는 ADMIN+ 권한이 필요합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "수정 성공"),
@@ -115,11 +280,12 @@ public class ExpenseController {
     public ResponseEntity<ExpenseResponse> updateExpense(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable String ledgerId,
+            @CurrentLedgerRole MemberRole role,
             @PathVariable String expenseId,
             @Valid @RequestBody UpdateExpenseRequest request) {
 
         ExpenseResponse response = expenseService.updateExpense(
-                userDetails.getId(), ledgerId, expenseId, request);
+                userDetails.getId(), ledgerId, role, expenseId, request);
         return ResponseEntity.ok(response);
     }
 
@@ -127,6 +293,7 @@ public class ExpenseController {
      * Delete an expense (soft delete).
      */
     @DeleteMapping("/{expenseId}")
+    @RequiresLedgerRole(value = MemberRole.MEMBER, message = "VIEWER cannot delete expenses")
     @Operation(summary = "지출 삭제", description = "지출을 삭제합니다. 본인의 지출 또는 ADMIN+ 권한이 필요합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "삭제 성공"),
@@ -137,9 +304,10 @@ public class ExpenseController {
     public ResponseEntity<Void> deleteExpense(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable String ledgerId,
+            @CurrentLedgerRole MemberRole role,
             @PathVariable String expenseId) {
 
-        expenseService.deleteExpense(userDetails.getId(), ledgerId, expenseId);
+        expenseService.deleteExpense(userDetails.getId(), ledgerId, role, expenseId);
         return ResponseEntity.noContent().build();
     }
 }
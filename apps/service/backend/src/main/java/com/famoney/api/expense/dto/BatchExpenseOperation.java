@@ -0,0 +1,34 @@
+package com.famoney.api.expense.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A single operation of a batch expense request.
+ * CREATE uses {@code create}; UPDATE uses {@code id} and {@code update}; DELETE uses {@code id}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchExpenseOperation {
+
+    @NotNull(message = "Operation type is required")
+    private Type op;
+
+    private String id;
+
+    @Valid
+    private CreateExpenseRequest create;
+
+    @Valid
+    private UpdateExpenseRequest update;
+
+    public enum Type {
+        CREATE, UPDATE, DELETE
+    }
+}
@@ -0,0 +1,26 @@
+package com.famoney.api.expense.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for creating, updating and deleting expenses in one call.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchExpenseRequest {
+
+    @NotEmpty(message = "Operations are required")
+    @Size(max = 500, message = "At most 500 operations per batch")
+    @Valid
+    private List<BatchExpenseOperation> operations;
+}
@@ -0,0 +1,22 @@
+package com.famoney.api.expense.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a batch expense request, one result per operation in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchExpenseResponse {
+
+    private List<BatchExpenseResult> results;
+    private int succeeded;
+    private int failed;
+}
@@ -0,0 +1,24 @@
+package com.famoney.api.expense.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single batch operation.
+ * status is the HTTP status the operation would have returned on its own.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchExpenseResult {
+
+    private int index;
+    private BatchExpenseOperation.Type op;
+    private String id;
+    private int status;
+    private String error;
+    private ExpenseResponse expense;
+}
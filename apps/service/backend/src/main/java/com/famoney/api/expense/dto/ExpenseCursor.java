@@ -0,0 +1,60 @@
+package com.famoney.api.expense.dto;
+
+import com.famoney.api.common.exception.BadRequestException;
+import com.famoney.api.expense.entity.Expense;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the expense list ordered by (expenseDate, createdAt, id) descending.
+ * Serialized as an opaque URL-safe token.
+ */
+@Getter
+@AllArgsConstructor
+public class ExpenseCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDate expenseDate;
+    private final LocalDateTime createdAt;
+    private final String id;
+
+    /**
+     * Create a cursor positioned after the given expense.
+     */
+    public static ExpenseCursor after(Expense expense) {
+        return new ExpenseCursor(expense.getExpenseDate(), expense.getCreatedAt(), expense.getId());
+    }
+
+    /**
+     * Decode an opaque cursor token.
+     *
+     * @throws BadRequestException if the token is malformed
+     */
+    public static ExpenseCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            if (parts.length != 3 || parts[2].isEmpty()) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new ExpenseCursor(LocalDate.parse(parts[0]), LocalDateTime.parse(parts[1]), parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Encode this cursor as an opaque token.
+     */
+    public String encode() {
+        String raw = expenseDate + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
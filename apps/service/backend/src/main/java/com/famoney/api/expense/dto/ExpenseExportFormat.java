@@ -0,0 +1,21 @@
+package com.famoney.api.expense.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * File formats supported by the expense export.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExpenseExportFormat {
+
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    XLSX(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"), "xlsx");
+
+    private final MediaType mediaType;
+    private final String extension;
+}
@@ -0,0 +1,38 @@
+package com.famoney.api.expense.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Optional filters for the expense list.
+ * Null (or empty) fields are not applied and produce no predicate in the generated SQL.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseQuery {
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    /**
+     * Matches expenses in any of the given categories.
+     */
+    private List<String> categoryIds;
+
+    private BigDecimal minAmount;
+
+    private BigDecimal maxAmount;
+
+    private String paymentMethod;
+
+    private String createdBy;
+}
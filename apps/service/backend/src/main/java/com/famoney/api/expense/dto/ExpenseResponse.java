@@ -50,6 +50,14 @@ public class ExpenseResponse {
      */
     public static ExpenseResponse from(Expense expense, Category category,
                                         String userName, String userProfileImage) {
+        return from(expense, category != null ? CategoryResponse.from(category) : null, userName, userProfileImage);
+    }
+
+    /**
+     * Create response from entity with already mapped category and user info.
+     */
+    public static ExpenseResponse from(Expense expense, CategoryResponse category,
+                                        String userName, String userProfileImage) {
         return ExpenseResponse.builder()
                 .id(expense.getId())
                 .ledgerId(expense.getLedgerId())
@@ -57,7 +65,7 @@ public class ExpenseResponse {
                 .description(expense.getDescription())
                 .expenseDate(expense.getExpenseDate())
                 .paymentMethod(expense.getPaymentMethod())
-                .category(category != null ? CategoryResponse.from(category) : null)
+                .category(category)
                 .createdByUser(CreatedByUser.builder()
                         .id(expense.getCreatedBy())
                         .displayName(userName)
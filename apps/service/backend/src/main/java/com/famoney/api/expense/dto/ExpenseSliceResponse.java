@@ -0,0 +1,24 @@
+package com.famoney.api.expense.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for cursor-based expense list.
+ * No total count is computed; use nextCursor to fetch the following slice.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseSliceResponse {
+
+    private List<ExpenseResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -55,6 +55,12 @@ public class Expense {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    /**
+     * Ledger version of the last change to this row, for delta sync.
+     */
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -1,21 +1,26 @@
 package com.famoney.api.expense.repository;
 
 import com.famoney.api.expense.entity.Expense;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository for Expense entity.
+ * Filtered list queries are built with {@link ExpenseSpecifications}.
  */
 @Repository
-public interface ExpenseRepository extends JpaRepository<Expense, String> {
+public interface ExpenseRepository extends JpaRepository<Expense, String>, JpaSpecificationExecutor<Expense>,
+        ExpenseResponseRepository {
 
     /**
      * Find expense by ID and not deleted.
@@ -30,20 +35,6 @@ public interface ExpenseRepository extends JpaRepository<Expense, String> {
             @Param("id") String id,
             @Param("ledgerId") String ledgerId);
 
-    /**
-     * Find expenses with filters and pagination.
-     */
-    @Query("SELECT e FROM Expense e WHERE e.ledgerId = :ledgerId AND e.deletedAt IS NULL " +
-           "AND (:startDate IS NULL OR e.expenseDate >= :startDate) " +
-           "AND (:endDate IS NULL OR e.expenseDate <= :endDate) " +
-           "AND (:categoryId IS NULL OR e.categoryId = :categoryId)")
-    Page<Expense> findWithFilters(
-            @Param("ledgerId") String ledgerId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
-            @Param("categoryId") String categoryId,
-            Pageable pageable);
-
     /**
      * Count expenses by ledger ID.
      */
@@ -53,4 +44,34 @@ public interface ExpenseRepository extends JpaRepository<Expense, String> {
      * Count expenses by category ID.
      */
     long countByCategoryIdAndDeletedAtIsNull(String categoryId);
+
+    /**
+     * Find expenses of a ledger changed after a (changeSeq, id) position, up to and including a change
+     * sequence, in change order. Soft-deleted expenses are included, so a delta can report deletions.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT e FROM Expense e WHERE e.ledgerId = :ledgerId AND e.changeSeq <= :upToSeq " +
+           "AND (e.changeSeq > :afterSeq OR (e.changeSeq = :afterSeq AND e.id > :afterId)) " +
+           "ORDER BY e.changeSeq ASC, e.id ASC")
+    List<Expense> findChangedAfter(
+            @Param("ledgerId") String ledgerId,
+            @Param("afterSeq") long afterSeq,
+            @Param("afterId") String afterId,
+            @Param("upToSeq") long upToSeq,
+            Pageable pageable);
+
+    /**
+     * Like {@link #findChangedAfter}, but only active expenses, for a full snapshot.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT e FROM Expense e WHERE e.ledgerId = :ledgerId AND e.changeSeq <= :upToSeq " +
+           "AND (e.changeSeq > :afterSeq OR (e.changeSeq = :afterSeq AND e.id > :afterId)) " +
+           "AND e.deletedAt IS NULL " +
+           "ORDER BY e.changeSeq ASC, e.id ASC")
+    List<Expense> findActiveChangedAfter(
+            @Param("ledgerId") String ledgerId,
+            @Param("afterSeq") long afterSeq,
+            @Param("afterId") String afterId,
+            @Param("upToSeq") long upToSeq,
+            Pageable pageable);
 }
@@ -0,0 +1,29 @@
+package com.famoney.api.expense.repository;
+
+import com.famoney.api.expense.dto.ExpenseResponse;
+import com.famoney.api.expense.entity.Expense;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * Expense queries built from specifications with the Criteria API.
+ */
+public interface ExpenseResponseRepository {
+
+    /**
+     * Find a page of expense responses matching a specification.
+     * Category and creator columns are left-joined into the page query, so no entities are loaded
+     * and no follow-up lookups are needed; the count query runs only when the total is not evident.
+     */
+    Page<ExpenseResponse> findResponses(Specification<Expense> spec, Pageable pageable);
+
+    /**
+     * Stream expenses matching a specification, for export.
+     * Must be consumed inside a transaction and closed; rows are read-only and fetched from the cursor in chunks.
+     */
+    Stream<Expense> streamMatching(Specification<Expense> spec, Sort sort);
+}
@@ -0,0 +1,138 @@
+package com.famoney.api.expense.repository;
+
+import com.famoney.api.category.dto.CategoryResponse;
+import com.famoney.api.category.entity.Category;
+import com.famoney.api.expense.dto.ExpenseResponse;
+import com.famoney.api.expense.entity.Expense;
+import com.famoney.api.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.criteria.JpaEntityJoin;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.sqm.tree.SqmJoinType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria implementation of {@link ExpenseResponseRepository}.
+ * Reuses the list specifications, so filters and index usage match the entity query.
+ */
+@RequiredArgsConstructor
+class ExpenseResponseRepositoryImpl implements ExpenseResponseRepository {
+
+    private static final List<String> EXPENSE_COLUMNS = List.of(
+            "id", "ledgerId", "amount", "description", "expenseDate", "paymentMethod",
+            "categoryId", "createdBy", "createdAt", "updatedAt");
+    private static final List<String> CATEGORY_COLUMNS = List.of(
+            "ledgerId", "name", "color", "icon", "isDefault", "createdAt");
+    private static final List<String> USER_COLUMNS = List.of("name", "profileImage");
+
+    /**
+     * Rows fetched from the cursor per round trip when streaming.
+     */
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<ExpenseResponse> findResponses(Specification<Expense> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        JpaRoot<Expense> expense = (JpaRoot<Expense>) query.from(Expense.class);
+
+        JpaEntityJoin<Category> category = expense.join(Category.class, SqmJoinType.LEFT);
+        category.on(cb.equal(category.get("id"), expense.get("categoryId")));
+        JpaEntityJoin<User> user = expense.join(User.class, SqmJoinType.LEFT);
+        user.on(cb.equal(user.get("id"), expense.get("createdBy")));
+
+        List<Selection<?>> selections = new ArrayList<>();
+        EXPENSE_COLUMNS.forEach(column -> selections.add(expense.get(column).alias("e_" + column)));
+        CATEGORY_COLUMNS.forEach(column -> selections.add(category.get(column).alias("c_" + column)));
+        USER_COLUMNS.forEach(column -> selections.add(user.get(column).alias("u_" + column)));
+
+        query.multiselect(selections)
+                .where(spec.toPredicate(expense, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), expense, cb));
+
+        List<Tuple> rows = pageable.isPaged()
+                ? entityManager.createQuery(query)
+                        .setFirstResult((int) pageable.getOffset())
+                        .setMaxResults(pageable.getPageSize())
+                        .getResultList()
+                : entityManager.createQuery(query).getResultList();
+
+        List<ExpenseResponse> content = rows.stream().map(ExpenseResponseRepositoryImpl::toResponse).toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Stream<Expense> streamMatching(Specification<Expense> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Expense> query = cb.createQuery(Expense.class);
+        Root<Expense> expense = query.from(Expense.class);
+        query.where(spec.toPredicate(expense, query, cb))
+                .orderBy(QueryUtils.toOrders(sort, expense, cb));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private long count(Specification<Expense> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Expense> expense = query.from(Expense.class);
+        query.select(cb.count(expense)).where(spec.toPredicate(expense, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static ExpenseResponse toResponse(Tuple row) {
+        String categoryId = row.get("e_categoryId", String.class);
+        String categoryName = row.get("c_name", String.class);
+        String userName = row.get("u_name", String.class);
+
+        return ExpenseResponse.builder()
+                .id(row.get("e_id", String.class))
+                .ledgerId(row.get("e_ledgerId", String.class))
+                .amount(row.get("e_amount", BigDecimal.class))
+                .description(row.get("e_description", String.class))
+                .expenseDate(row.get("e_expenseDate", LocalDate.class))
+                .paymentMethod(row.get("e_paymentMethod", String.class))
+                .category(categoryId != null && categoryName != null
+                        ? CategoryResponse.builder()
+                                .id(categoryId)
+                                .ledgerId(row.get("c_ledgerId", String.class))
+                                .name(categoryName)
+                                .color(row.get("c_color", String.class))
+                                .icon(row.get("c_icon", String.class))
+                                .isDefault(row.get("c_isDefault", Boolean.class))
+                                .createdAt(row.get("c_createdAt", LocalDateTime.class))
+                                .build()
+                        : null)
+                .createdByUser(ExpenseResponse.CreatedByUser.builder()
+                        .id(row.get("e_createdBy", String.class))
+                        .displayName(userName != null ? userName : "Unknown")
+                        .profileImage(row.get("u_profileImage", String.class))
+                        .build())
+                .createdAt(row.get("e_createdAt", LocalDateTime.class))
+                .updatedAt(row.get("e_updatedAt", LocalDateTime.class))
+                .build();
+    }
+}
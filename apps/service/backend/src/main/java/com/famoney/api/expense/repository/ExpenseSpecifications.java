@@ -0,0 +1,85 @@
+package com.famoney.api.expense.repository;
+
+import com.famoney.api.expense.dto.ExpenseCursor;
+import com.famoney.api.expense.dto.ExpenseQuery;
+import com.famoney.api.expense.entity.Expense;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria specifications for expense list queries.
+ * Only supplied filters become predicates, so each filter combination gets its own
+ * SQL shape that the database can plan against the matching index.
+ */
+public final class ExpenseSpecifications {
+
+    /**
+     * Keyset order of the expense list, newest first.
+     */
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "expenseDate", "createdAt", "id");
+
+    private ExpenseSpecifications() {
+    }
+
+    /**
+     * Active expenses of a ledger matching the supplied filters.
+     */
+    public static Specification<Expense> matching(String ledgerId, ExpenseQuery query) {
+        return (root, criteriaQuery, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("ledgerId"), ledgerId));
+            predicates.add(cb.isNull(root.get("deletedAt")));
+
+            if (query.getStartDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("expenseDate"), query.getStartDate()));
+            }
+            if (query.getEndDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("expenseDate"), query.getEndDate()));
+            }
+            List<String> categoryIds = query.getCategoryIds();
+            if (categoryIds != null && !categoryIds.isEmpty()) {
+                predicates.add(categoryIds.size() == 1
+                        ? cb.equal(root.get("categoryId"), categoryIds.get(0))
+                        : root.get("categoryId").in(categoryIds));
+            }
+            if (query.getMinAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("amount"), query.getMinAmount()));
+            }
+            if (query.getMaxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("amount"), query.getMaxAmount()));
+            }
+            if (query.getPaymentMethod() != null) {
+                predicates.add(cb.equal(root.get("paymentMethod"), query.getPaymentMethod()));
+            }
+            if (query.getCreatedBy() != null) {
+                predicates.add(cb.equal(root.get("createdBy"), query.getCreatedBy()));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Expenses strictly after a keyset position in {@link #NEWEST_FIRST} order.
+     * JPA Criteria has no row-value comparison, so the keyset is expanded into nested OR conditions
+     * on (expenseDate, createdAt, id). The redundant upper bound on expenseDate keeps the index range
+     * scan bounded.
+     */
+    public static Specification<Expense> after(ExpenseCursor cursor) {
+        return (root, criteriaQuery, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("expenseDate"), cursor.getExpenseDate()),
+                cb.or(
+                        cb.lessThan(root.get("expenseDate"), cursor.getExpenseDate()),
+                        cb.and(
+                                cb.equal(root.get("expenseDate"), cursor.getExpenseDate()),
+                                cb.or(
+                                        cb.lessThan(root.get("createdAt"), cursor.getCreatedAt()),
+                                        cb.and(
+                                                cb.equal(root.get("createdAt"), cursor.getCreatedAt()),
+                                                cb.lessThan(root.get("id"), cursor.getId()))))));
+    }
+}
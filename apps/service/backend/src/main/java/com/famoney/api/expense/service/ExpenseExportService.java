@@ -0,0 +1,272 @@
+package com.famoney.api.expense.service;
+
+import com.famoney.api.category.service.CategoryCache;
+import com.famoney.api.category.service.CategoryCache.CachedCategory;
+import com.famoney.api.common.exception.BadRequestException;
+import com.famoney.api.expense.dto.ExpenseExportFormat;
+import com.famoney.api.expense.dto.ExpenseQuery;
+import com.famoney.api.expense.entity.Expense;
+import com.famoney.api.expense.repository.ExpenseRepository;
+import com.famoney.api.expense.repository.ExpenseSpecifications;
+import com.famoney.api.user.service.UserDisplayCache;
+import com.famoney.api.user.service.UserDisplayCache.UserDisplay;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Service exporting ledger expenses as CSV or XLSX.
+ * Rows are streamed from a database cursor straight to the response; neither the result set
+ * nor the workbook is held in memory.
+ */
+@Service
+@Slf4j
+public class ExpenseExportService {
+
+    /**
+     * Number of XLSX rows kept in memory before older rows are flushed to a temp file.
+     */
+    private static final int XLSX_WINDOW_SIZE = 100;
+
+    /**
+     * Number of rows between progress reports.
+     */
+    private static final int PROGRESS_INTERVAL = 1000;
+
+    private static final String[] HEADERS =
+            {"Date", "Description", "Category", "Amount", "Payment Method", "Created By"};
+
+    private static final CSVFormat CSV_FORMAT = CSVFormat.EXCEL.builder()
+            .setHeader(HEADERS)
+            .build();
+
+    /**
+     * Leading characters that make spreadsheet applications treat a CSV cell as a formula.
+     * The CSV export prefixes them with a quote, which the CSV import strips again.
+     */
+    static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final ExpenseRepository expenseRepository;
+    private final CategoryCache categoryCache;
+    private final UserDisplayCache userDisplayCache;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExpenseExportService(ExpenseRepository expenseRepository,
+                                CategoryCache categoryCache,
+                                UserDisplayCache userDisplayCache,
+                                EntityManager entityManager,
+                                PlatformTransactionManager transactionManager) {
+        this.expenseRepository = expenseRepository;
+        this.categoryCache = categoryCache;
+        this.userDisplayCache = userDisplayCache;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Build a response body writing the ledger's expenses in the given format.
+     * Arguments are validated eagerly; the query runs when the body is written.
+     */
+    public StreamingResponseBody export(String userId, String ledgerId, LocalDate startDate, LocalDate endDate,
+                                        ExpenseExportFormat format) {
+        validateRange(startDate, endDate);
+        log.info("Exporting expenses of ledger: {} as {} by user: {}", ledgerId, format, userId);
+
+        return out -> write(ledgerId, startDate, endDate, format, out, rows -> { });
+    }
+
+    /**
+     * Reject an export range that ends before it starts.
+     */
+    public void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BadRequestException("startDate must be on or before endDate");
+        }
+    }
+
+    /**
+     * Write the ledger's expenses to out in the given format within a read-only transaction.
+     *
+     * @param progress receives the number of rows written every {@value #PROGRESS_INTERVAL} rows
+     * @return the number of rows written
+     */
+    public long write(String ledgerId, LocalDate startDate, LocalDate endDate, ExpenseExportFormat format,
+                      OutputStream out, LongConsumer progress) {
+        Long count = readOnlyTransaction.execute(status -> {
+            Labels labels = new Labels(ledgerId);
+            long[] read = {0};
+            try (Stream<Expense> expenses = expenseRepository.streamMatching(
+                    ExpenseSpecifications.matching(ledgerId, ExpenseQuery.builder()
+                            .startDate(startDate)
+                            .endDate(endDate)
+                            .build()),
+                    ExpenseSpecifications.NEWEST_FIRST)) {
+                // Detach each row as it is read so the persistence context stays empty
+                Iterator<Expense> rows = expenses
+                        .peek(expense -> {
+                            entityManager.detach(expense);
+                            if (++read[0] % PROGRESS_INTERVAL == 0) {
+                                progress.accept(read[0]);
+                            }
+                        })
+                        .iterator();
+                return format == ExpenseExportFormat.XLSX
+                        ? writeXlsx(rows, labels, out)
+                        : writeCsv(rows, labels, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("Exported {} expenses of ledger: {}", count, ledgerId);
+        return count;
+    }
+
+    private long writeCsv(Iterator<Expense> rows, Labels labels, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // BOM so spreadsheet applications detect UTF-8
+        writer.write('\uFEFF');
+        // Not closed: that would close the response stream
+        CSVPrinter printer = CSV_FORMAT.print(writer);
+
+        long count = 0;
+        while (rows.hasNext()) {
+            Expense expense = rows.next();
+            printer.printRecord(
+                    expense.getExpenseDate(),
+                    guardFormula(expense.getDescription()),
+                    guardFormula(labels.category(expense)),
+                    expense.getAmount().toPlainString(),
+                    guardFormula(expense.getPaymentMethod()),
+                    guardFormula(labels.user(expense)));
+            count++;
+        }
+        printer.flush();
+        return count;
+    }
+
+    /**
+     * Neutralize a leading formula character so spreadsheet applications show the text instead of
+     * evaluating it. Numbers such as negative amounts are left as they are.
+     */
+    private String guardFormula(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        if (FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0 && !isNumber(value)) {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    private boolean isNumber(String value) {
+        try {
+            new BigDecimal(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private long writeXlsx(Iterator<Expense> rows, Labels labels, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("Expenses");
+
+            Font bold = workbook.createFont();
+            bold.setBold(true);
+            CellStyle headerStyle = workbook.createCellStyle();
+            headerStyle.setFont(bold);
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+            CellStyle amountStyle = workbook.createCellStyle();
+            amountStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00"));
+
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
+                header.createCell(i).setCellValue(HEADERS[i]);
+                header.getCell(i).setCellStyle(headerStyle);
+            }
+
+            int rowIndex = 1;
+            while (rows.hasNext()) {
+                Expense expense = rows.next();
+                Row row = sheet.createRow(rowIndex++);
+                row.createCell(0).setCellValue(expense.getExpenseDate());
+                row.getCell(0).setCellStyle(dateStyle);
+                row.createCell(1).setCellValue(expense.getDescription());
+                row.createCell(2).setCellValue(labels.category(expense));
+                row.createCell(3).setCellValue(expense.getAmount().doubleValue());
+                row.getCell(3).setCellStyle(amountStyle);
+                row.createCell(4).setCellValue(expense.getPaymentMethod());
+                row.createCell(5).setCellValue(labels.user(expense));
+            }
+
+            workbook.write(out);
+            out.flush();
+            return rowIndex - 1L;
+        } finally {
+            // Also deletes the temporary sheet files
+            workbook.close();
+        }
+    }
+
+    /**
+     * Category and user display names for one export.
+     * Categories of a ledger are few and loaded up front; users are looked up once each.
+     */
+    private class Labels {
+
+        private final String ledgerId;
+        private final Map<String, CachedCategory> categories;
+        private final Map<String, String> userNames = new HashMap<>();
+
+        Labels(String ledgerId) {
+            this.ledgerId = ledgerId;
+            this.categories = categoryCache.getCategoriesById(ledgerId);
+        }
+
+        String category(Expense expense) {
+            CachedCategory category = expense.getCategoryId() != null
+                    ? categories.get(expense.getCategoryId())
+                    : null;
+            return category != null ? category.name() : null;
+        }
+
+        String user(Expense expense) {
+            return userNames.computeIfAbsent(expense.getCreatedBy(), id -> {
+                UserDisplay user = userDisplayCache.getAll(ledgerId, List.of(id)).get(id);
+                return user != null ? user.name() : "Unknown";
+            });
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package com.famoney.api.expense.service;
+
+import com.famoney.api.category.entity.Category;
+import com.famoney.api.category.repository.CategoryRepository;
+import com.famoney.api.common.exception.BadRequestException;
+import com.famoney.api.event.dto.LedgerEvent;
+import com.famoney.api.expense.dto.CreateExpenseRequest;
+import com.famoney.api.expense.dto.ExpenseImportResponse;
+import com.famoney.api.expense.entity.Expense;
+import com.famoney.api.expense.repository.ExpenseRepository;
+import com.famoney.api.ledger.service.LedgerVersionService;
+import com.famoney.api.outbox.service.OutboxService;
+import com.famoney.api.statistics.service.LedgerMonthlyTotalService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.csv.DuplicateHeaderMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service importing expenses from bank and card statement CSV files.
+ * Rows are parsed and validated as they are read and inserted in batches, each batch in its own
+ * transaction, so memory use does not depend on the file size.
+ */
+@Service
+@Slf4j
+public class ExpenseImportService {
+
+    private static final CSVFormat INPUT_FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setIgnoreEmptyLines(true)
+            .setTrim(true)
+            .setAllowMissingColumnNames(true)
+            .setDuplicateHeaderMode(DuplicateHeaderMode.ALLOW_ALL)
+            .build();
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ofPattern("yyyy-M-d"),
+            DateTimeFormatter.ofPattern("yyyy.M.d"),
+            DateTimeFormatter.ofPattern("yyyy/M/d"),
+            DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+    /**
+     * Recognized header names per column, compared lower-cased without spaces or underscores.
+     * Covers this API's own export and common Korean bank/card statement headers.
+     */
+    private static final Map<Column, Set<String>> COLUMN_NAMES = Map.of(
+            Column.DATE, Set.of("date", "expensedate", "날짜", "거래일", "거래일자", "거래일시",
+                    "이용일", "이용일자", "이용일시", "승인일", "승인일자", "승인일시"),
+            Column.AMOUNT, Set.of("amount", "금액", "거래금액", "이용금액", "출금액", "승인금액", "결제금액"),
+            Column.DESCRIPTION, Set.of("description", "memo", "내용", "적요", "거래내용",
+                    "가맹점", "가맹점명", "이용가맹점", "이용처"),
+            Column.CATEGORY, Set.of("category", "카테고리", "분류"),
+            Column.PAYMENT_METHOD, Set.of("paymentmethod", "결제수단", "카드", "카드명", "이용카드"));
+
+    private final ExpenseRepository expenseRepository;
+    private final CategoryRepository categoryRepository;
+    private final LedgerMonthlyTotalService monthlyTotalService;
+    private final LedgerVersionService ledgerVersionService;
+    private final OutboxService outboxService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public ExpenseImportService(ExpenseRepository expenseRepository,
+                                CategoryRepository categoryRepository,
+                                LedgerMonthlyTotalService monthlyTotalService,
+                                LedgerVersionService ledgerVersionService,
+                                OutboxService outboxService,
+                                Validator validator,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${expense-import.batch-size:500}") int batchSize,
+                                @Value("${expense-import.max-reported-errors:100}") int maxReportedErrors) {
+        this.expenseRepository = expenseRepository;
+        this.categoryRepository = categoryRepository;
+        this.monthlyTotalService = monthlyTotalService;
+        this.ledgerVersionService = ledgerVersionService;
+        this.outboxService = outboxService;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Import a CSV file into a ledger.
+     * Rejected rows are skipped and reported; valid rows are committed batch by batch.
+     *
+     * @param errorFile receives every rejected row with its error as CSV, or null
+     * @param progress  notified after each committed batch
+     */
+    public ExpenseImportResponse importCsv(String userId, String ledgerId, InputStream in, String encoding,
+                                           Writer errorFile, Progress progress) throws IOException {
+        log.info("Importing expenses into ledger: {} by user: {}", ledgerId, userId);
+
+        Charset charset = resolveCharset(encoding);
+        Map<String, String> categoryIds = categoryIdsByName(ledgerId);
+        ImportState state = new ImportState();
+
+        try (BufferedReader reader = openReader(in, charset);
+             CSVParser parser = INPUT_FORMAT.parse(reader)) {
+
+            Map<Column, Integer> columns = resolveColumns(parser.getHeaderNames());
+            CSVPrinter errors = errorFile != null ? openErrorFile(errorFile, parser.getHeaderNames()) : null;
+            List<Expense> batch = new ArrayList<>(batchSize);
+
+            try {
+                for (CSVRecord record : parser) {
+                    state.totalRows++;
+                    try {
+                        batch.add(toExpense(userId, ledgerId, toRequest(record, columns, categoryIds)));
+                    } catch (BadRequestException e) {
+                        state.reject(record.getRecordNumber(), e.getMessage());
+                        if (errors != null) {
+                            errors.print(record.getRecordNumber());
+                            errors.print(e.getMessage());
+                            errors.printRecord((Object[]) record.values());
+                        }
+                    }
+
+                    if (batch.size() >= batchSize) {
+                        state.importedRows += persist(batch);
+                        batch.clear();
+                        progress.update(state.totalRows, state.importedRows, state.failedRows);
+                    }
+                }
+            } catch (UncheckedIOException e) {
+                // Malformed CSV: stop here and report; batches before it stay committed
+                state.totalRows++;
+                state.reject(state.totalRows, "Malformed CSV: " + e.getCause().getMessage());
+                log.warn("Stopped import into ledger: {} at row {}: {}", ledgerId, state.totalRows,
+                        e.getCause().getMessage());
+            }
+
+            state.importedRows += persist(batch);
+            progress.update(state.totalRows, state.importedRows, state.failedRows);
+            if (errors != null) {
+                errors.flush();
+            }
+        }
+
+        log.info("Imported {} of {} rows into ledger: {} ({} rejected)",
+                state.importedRows, state.totalRows, ledgerId, state.failedRows);
+
+        return ExpenseImportResponse.builder()
+                .totalRows(state.totalRows)
+                .importedRows(state.importedRows)
+                .failedRows(state.failedRows)
+                .errors(state.errors)
+                .errorsTruncated(state.failedRows > state.errors.size())
+                .build();
+    }
+
+    /**
+     * Insert a batch with its rollup changes in one transaction.
+     */
+    private int persist(List<Expense> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            LedgerMonthlyTotalService.Changes changes = new LedgerMonthlyTotalService.Changes();
+            batch.forEach(changes::add);
+            long changeSeq = ledgerVersionService.bump(batch.get(0).getLedgerId());
+            batch.forEach(expense -> expense.setChangeSeq(changeSeq));
+            expenseRepository.saveAll(batch);
+            expenseRepository.flush();
+            monthlyTotalService.apply(changes);
+            // One event per batch; subscribers reload rather than receive every row
+            outboxService.append(LedgerEvent.of(LedgerEvent.Type.EXPENSES_IMPORTED,
+                    batch.get(0).getLedgerId(), null, batch.get(0).getCreatedBy(), null));
+        });
+        return batch.size();
+    }
+
+    /**
+     * Category names usable in the ledger, lower-cased, mapped to ids.
+     * Ledger categories take precedence over default categories of the same name.
+     */
+    private Map<String, String> categoryIdsByName(String ledgerId) {
+        Map<String, String> categoryIds = new HashMap<>();
+        // findAllForLedger lists default categories first
+        for (Category category : categoryRepository.findAllForLedger(ledgerId)) {
+            categoryIds.put(category.getName().toLowerCase(Locale.ROOT), category.getId());
+        }
+        return categoryIds;
+    }
+
+    private Charset resolveCharset(String encoding) {
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported encoding: " + encoding);
+        }
+    }
+
+    private BufferedReader openReader(InputStream in, Charset charset) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset));
+        // Skip a UTF-8 byte order mark
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+        return reader;
+    }
+
+    private Map<Column, Integer> resolveColumns(List<String> headers) {
+        Map<Column, Integer> columns = new EnumMap<>(Column.class);
+        for (int i = 0; i < headers.size(); i++) {
+            String header = normalizeHeader(headers.get(i));
+            for (Map.Entry<Column, Set<String>> entry : COLUMN_NAMES.entrySet()) {
+                if (entry.getValue().contains(header)) {
+                    columns.putIfAbsent(entry.getKey(), i);
+                }
+            }
+        }
+        if (!columns.containsKey(Column.DATE) || !columns.containsKey(Column.AMOUNT)
+                || !columns.containsKey(Column.DESCRIPTION)) {
+            throw new BadRequestException("CSV must have date, amount and description columns, found: " + headers);
+        }
+        return columns;
+    }
+
+    private String normalizeHeader(String header) {
+        return header == null ? "" : header.replaceAll("[\\s_]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private CSVPrinter openErrorFile(Writer errorFile, List<String> headers) throws IOException {
+        List<String> errorHeaders = new ArrayList<>(List.of("Row", "Error"));
+        errorHeaders.addAll(headers);
+        return CSVFormat.DEFAULT.builder()
+                .setHeader(errorHeaders.toArray(String[]::new))
+                .build()
+                .print(errorFile);
+    }
+
+    /**
+     * Map a CSV record to a validated create request.
+     */
+    private CreateExpenseRequest toRequest(CSVRecord record, Map<Column, Integer> columns,
+                                           Map<String, String> categoryIds) {
+        String categoryName = value(record, columns, Column.CATEGORY);
+        String categoryId = null;
+        if (categoryName != null) {
+            categoryId = categoryIds.get(categoryName.toLowerCase(Locale.ROOT));
+            if (categoryId == null) {
+                throw new BadRequestException("Unknown category: " + categoryName);
+            }
+        }
+
+        CreateExpenseRequest request = CreateExpenseRequest.builder()
+                .expenseDate(parseDate(value(record, columns, Column.DATE)))
+                .amount(parseAmount(value(record, columns, Column.AMOUNT)))
+                .description(value(record, columns, Column.DESCRIPTION))
+                .categoryId(categoryId)
+                .paymentMethod(value(record, columns, Column.PAYMENT_METHOD))
+                .build();
+
+        Set<ConstraintViolation<CreateExpenseRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return request;
+    }
+
+    private Expense toExpense(String userId, String ledgerId, CreateExpenseRequest request) {
+        return Expense.builder()
+                .ledgerId(ledgerId)
+                .categoryId(request.getCategoryId())
+                .amount(request.getAmount())
+                .description(request.getDescription())
+                .expenseDate(request.getExpenseDate())
+                .paymentMethod(request.getPaymentMethod())
+                .createdBy(userId)
+                .build();
+    }
+
+    /**
+     * Trimmed cell value, or null when the column is absent or blank.
+     * Strips the quote the CSV export adds in front of formula characters.
+     */
+    private String value(CSVRecord record, Map<Column, Integer> columns, Column column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        if (value.length() > 1 && value.charAt(0) == '\''
+                && ExpenseExportService.FORMULA_PREFIXES.indexOf(value.charAt(1)) >= 0) {
+            return value.substring(1);
+        }
+        return value;
+    }
+
+    /**
+     * Parse a date, ignoring a trailing time part.
+     */
+    private LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        String date = value.split("\\s+")[0];
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(date, format);
+            } catch (DateTimeParseException ignored) {
+                // try the next format
+            }
+        }
+        throw new BadRequestException("Invalid date: " + value);
+    }
+
+    /**
+     * Parse an amount, ignoring thousands separators and currency marks.
+     */
+    private BigDecimal parseAmount(String value) {
+        if (value == null) {
+            return null;
+        }
+        String amount = value.replaceAll("[,\\s₩원$]", "");
+        try {
+            return new BigDecimal(amount);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid amount: " + value);
+        }
+    }
+
+    /**
+     * Receives import progress after each committed batch.
+     */
+    @FunctionalInterface
+    public interface Progress {
+
+        Progress NONE = (processedRows, importedRows, failedRows) -> { };
+
+        void update(long processedRows, long importedRows, long failedRows);
+    }
+
+    private enum Column {
+        DATE, AMOUNT, DESCRIPTION, CATEGORY, PAYMENT_METHOD
+    }
+
+    /**
+     * Running counts of one import and the first rejected rows.
+     */
+    private class ImportState {
+
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+        private final List<ExpenseImportResponse.RowError> errors = new ArrayList<>();
+
+        void reject(long row, String message) {
+            failedRows++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(ExpenseImportResponse.RowError.builder().row(row).message(message).build());
+            }
+        }
+    }
+}
@@ -2,57 +2,102 @@ package com.famoney.api.expense.service;
 
 import com.famoney.api.category.entity.Category;
 import com.famoney.api.category.repository.CategoryRepository;
+import com.famoney.api.category.service.CategoryCache;
+import com.famoney.api.category.service.CategoryCache.CachedCategory;
+import com.famoney.api.common.exception.BadRequestException;
 import com.famoney.api.common.exception.ForbiddenException;
 import com.famoney.api.common.exception.ResourceNotFoundException;
+import com.famoney.api.event.dto.LedgerEvent;
 import com.famoney.api.expense.dto.*;
 import com.famoney.api.expense.entity.Expense;
 import com.famoney.api.expense.repository.ExpenseRepository;
-import com.famoney.api.member.entity.Member;
-import com.famoney.api.member.repository.MemberRepository;
-import com.famoney.api.user.entity.User;
-import com.famoney.api.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.famoney.api.expense.repository.ExpenseSpecifications;
+import com.famoney.api.ledger.service.LedgerVersionService;
+import com.famoney.api.member.entity.MemberRole;
+import com.famoney.api.outbox.service.OutboxService;
+import com.famoney.api.statistics.service.LedgerMonthlyTotalService;
+import com.famoney.api.user.service.UserDisplayCache;
+import com.famoney.api.user.service.UserDisplayCache.UserDisplay;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Service for expense operations.
+ * Ledger membership and minimum roles are checked by {@code @RequiresLedgerRole} on the controller.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class ExpenseService {
 
+    /**
+     * Maximum number of expenses returned in one cursor slice.
+     */
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final ExpenseRepository expenseRepository;
     private final CategoryRepository categoryRepository;
-    private final MemberRepository memberRepository;
-    private final UserRepository userRepository;
+    private final CategoryCache categoryCache;
+    private final UserDisplayCache userDisplayCache;
+    private final LedgerMonthlyTotalService monthlyTotalService;
+    private final LedgerVersionService ledgerVersionService;
+    private final OutboxService outboxService;
+    private final boolean singleQueryList;
+
+    public ExpenseService(ExpenseRepository expenseRepository,
+                          CategoryRepository categoryRepository,
+                          CategoryCache categoryCache,
+                          UserDisplayCache userDisplayCache,
+                          LedgerMonthlyTotalService monthlyTotalService,
+                          LedgerVersionService ledgerVersionService,
+                          OutboxService outboxService,
+                          @Value("${expense-list.single-query:true}") boolean singleQueryList) {
+        this.expenseRepository = expenseRepository;
+        this.categoryRepository = categoryRepository;
+        this.categoryCache = categoryCache;
+        this.userDisplayCache = userDisplayCache;
+        this.monthlyTotalService = monthlyTotalService;
+        this.ledgerVersionService = ledgerVersionService;
+        this.outboxService = outboxService;
+        this.singleQueryList = singleQueryList;
+    }
 
     /**
      * Get expenses with filters and pagination.
+     * By default responses are built by one joined query (plus the count query when needed);
+     * with {@code expense-list.single-query=false} entities are loaded and enriched instead.
      */
     public ExpenseListResponse getExpenses(String userId, String ledgerId,
-                                            LocalDate startDate, LocalDate endDate,
-                                            String categoryId, Pageable pageable) {
+                                            ExpenseQuery query, Pageable pageable) {
         log.debug("Getting expenses for ledger: {} by user: {}", ledgerId, userId);
 
-        // Verify user is a member
-        memberRepository.findByUserIdAndLedgerId(userId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
+        validateQuery(query);
 
-        Page<Expense> expensePage = expenseRepository.findWithFilters(
-                ledgerId, startDate, endDate, categoryId, pageable);
+        Specification<Expense> spec = ExpenseSpecifications.matching(ledgerId, query);
+        if (singleQueryList) {
+            return ExpenseListResponse.from(expenseRepository.findResponses(spec, pageable));
+        }
+
+        Page<Expense> expensePage = expenseRepository.findAll(spec, pageable);
 
         // Batch load related data
         Page<ExpenseResponse> responsePage = enrichExpenses(expensePage, ledgerId);
@@ -60,15 +105,48 @@ public class ExpenseService {
         return ExpenseListResponse.from(responsePage);
     }
 
+    /**
+     * Get a slice of expenses using keyset pagination on (expenseDate, createdAt, id).
+     * Cost is independent of the position in the list and no count query is run.
+     */
+    public ExpenseSliceResponse getExpenseSlice(String userId, String ledgerId,
+                                                ExpenseQuery query, String cursor, int size) {
+        log.debug("Getting expense slice for ledger: {} by user: {}", ledgerId, userId);
+
+        validateQuery(query);
+
+        int sliceSize = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+
+        Specification<Expense> spec = ExpenseSpecifications.matching(ledgerId, query);
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(ExpenseSpecifications.after(ExpenseCursor.decode(cursor)));
+        }
+
+        // Fetch one extra row to detect whether another slice follows
+        List<Expense> expenses = expenseRepository.findBy(spec, q -> q
+                .sortBy(ExpenseSpecifications.NEWEST_FIRST)
+                .limit(sliceSize + 1)
+                .all());
+
+        boolean hasNext = expenses.size() > sliceSize;
+        if (hasNext) {
+            expenses = expenses.subList(0, sliceSize);
+        }
+
+        return ExpenseSliceResponse.builder()
+                .content(toResponses(ledgerId, expenses))
+                .size(sliceSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? ExpenseCursor.after(expenses.get(expenses.size() - 1)).encode() : null)
+                .build();
+    }
+
     /**
      * Get a single expense by ID.
      */
     public ExpenseResponse getExpense(String userId, String ledgerId, String expenseId) {
         log.debug("Getting expense: {} from ledger: {} by user: {}", expenseId, ledgerId, userId);
 
-        memberRepository.findByUserIdAndLedgerId(userId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
         Expense expense = expenseRepository.findByIdAndLedgerIdAndDeletedAtIsNull(expenseId, ledgerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Expense", "id", expenseId));
 
@@ -77,19 +155,11 @@ public class ExpenseService {
 
     /**
      * Create a new expense.
-     * VIEWER role cannot create expenses.
      */
     @Transactional
     public ExpenseResponse createExpense(String userId, String ledgerId, CreateExpenseRequest request) {
         log.info("Creating expense for ledger: {} by user: {}", ledgerId, userId);
 
-        Member member = memberRepository.findByUserIdAndLedgerId(userId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
-        if (!member.getRole().canWriteExpenses()) {
-            throw new ForbiddenException("VIEWER cannot create expenses");
-        }
-
         // Validate category if provided
         if (request.getCategoryId() != null) {
             categoryRepository.findByIdForLedger(request.getCategoryId(), ledgerId)
@@ -104,34 +174,41 @@ public class ExpenseService {
                 .expenseDate(request.getExpenseDate())
                 .paymentMethod(request.getPaymentMethod())
                 .createdBy(userId)
+                .changeSeq(ledgerVersionService.bump(ledgerId))
                 .build();
 
         expense = expenseRepository.save(expense);
+        monthlyTotalService.addExpense(expense);
         log.info("Created expense: {} for ledger: {}", expense.getId(), ledgerId);
 
-        return enrichSingleExpense(expense, ledgerId);
+        ExpenseResponse response = enrichSingleExpense(expense, ledgerId);
+        outboxService.append(LedgerEvent.of(
+                LedgerEvent.Type.EXPENSE_CREATED, ledgerId, response.getId(), userId, response));
+        return response;
     }
 
     /**
      * Update an expense.
-     * Only the creator or ADMIN+ can update.
+     * Only the creator or ADMIN+ can update; role is the caller's role in the ledger.
      */
     @Transactional
-    public ExpenseResponse updateExpense(String userId, String ledgerId, String expenseId,
+    public ExpenseResponse updateExpense(String userId, String ledgerId, MemberRole role, String expenseId,
                                           UpdateExpenseRequest request) {
         log.info("Updating expense: {} in ledger: {} by user: {}", expenseId, ledgerId, userId);
 
-        Member member = memberRepository.findByUserIdAndLedgerId(userId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
         Expense expense = expenseRepository.findByIdAndLedgerIdAndDeletedAtIsNull(expenseId, ledgerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Expense", "id", expenseId));
 
         // Check permission: creator or ADMIN+
-        if (!expense.isCreatedBy(userId) && !member.canModifyLedger()) {
+        if (!expense.isCreatedBy(userId) && !role.canModifyLedger()) {
             throw new ForbiddenException("You can only edit your own expenses or be an ADMIN+");
         }
 
+        // Keep previous values to move the expense within the monthly rollup
+        LocalDate previousDate = expense.getExpenseDate();
+        String previousCategoryId = expense.getCategoryId();
+        BigDecimal previousAmount = expense.getAmount();
+
         // Validate category if changing
         if (request.getCategoryId() != null) {
             categoryRepository.findByIdForLedger(request.getCategoryId(), ledgerId)
@@ -153,91 +230,312 @@ public class ExpenseService {
             expense.setPaymentMethod(request.getPaymentMethod());
         }
 
+        expense.setChangeSeq(ledgerVersionService.bump(ledgerId));
         expense = expenseRepository.save(expense);
+        monthlyTotalService.updateExpense(expense, previousDate, previousCategoryId, previousAmount);
         log.info("Updated expense: {}", expenseId);
 
-        return enrichSingleExpense(expense, ledgerId);
+        ExpenseResponse response = enrichSingleExpense(expense, ledgerId);
+        outboxService.append(LedgerEvent.of(
+                LedgerEvent.Type.EXPENSE_UPDATED, ledgerId, expenseId, userId, response));
+        return response;
     }
 
     /**
      * Delete an expense (soft delete).
-     * Only the creator or ADMIN+ can delete.
+     * Only the creator or ADMIN+ can delete; role is the caller's role in the ledger.
      */
     @Transactional
-    public void deleteExpense(String userId, String ledgerId, String expenseId) {
+    public void deleteExpense(String userId, String ledgerId, MemberRole role, String expenseId) {
         log.info("Deleting expense: {} from ledger: {} by user: {}", expenseId, ledgerId, userId);
 
-        Member member = memberRepository.findByUserIdAndLedgerId(userId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
         Expense expense = expenseRepository.findByIdAndLedgerIdAndDeletedAtIsNull(expenseId, ledgerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Expense", "id", expenseId));
 
         // Check permission: creator or ADMIN+
-        if (!expense.isCreatedBy(userId) && !member.canModifyLedger()) {
+        if (!expense.isCreatedBy(userId) && !role.canModifyLedger()) {
             throw new ForbiddenException("You can only delete your own expenses or be an ADMIN+");
         }
 
         expense.softDelete();
+        expense.setChangeSeq(ledgerVersionService.bump(ledgerId));
         expenseRepository.save(expense);
+        monthlyTotalService.removeExpense(expense);
+        outboxService.append(LedgerEvent.of(
+                LedgerEvent.Type.EXPENSE_DELETED, ledgerId, expenseId, userId, null));
         log.info("Deleted expense: {}", expenseId);
     }
 
+    /**
+     * Apply create, update and delete operations in one transaction.
+     * Categories and target expenses are loaded with one query each, writes are flushed
+     * in JDBC batches and each affected rollup row is updated once.
+     * Failing operations are reported per item and do not affect the others.
+     */
+    @Transactional
+    public BatchExpenseResponse batchExpenses(String userId, String ledgerId, MemberRole role,
+                                              BatchExpenseRequest request) {
+        List<BatchExpenseOperation> operations = request.getOperations();
+        log.info("Applying {} batch operations to ledger: {} by user: {}", operations.size(), ledgerId, userId);
+
+        // Batch load categories usable in this ledger
+        Set<String> categoryIds = operations.stream()
+                .map(this::categoryIdOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> usableCategoryIds = categoryRepository.findAllById(categoryIds).stream()
+                .filter(c -> c.isDefaultCategory() || c.belongsToLedger(ledgerId))
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+
+        // Batch load active expenses of this ledger targeted by updates and deletes
+        Set<String> expenseIds = operations.stream()
+                .filter(o -> o.getOp() != BatchExpenseOperation.Type.CREATE && o.getId() != null)
+                .map(BatchExpenseOperation::getId)
+                .collect(Collectors.toSet());
+        Map<String, Expense> expenseMap = expenseRepository.findAllById(expenseIds).stream()
+                .filter(e -> ledgerId.equals(e.getLedgerId()) && !e.isDeleted())
+                .collect(Collectors.toMap(Expense::getId, e -> e));
+
+        LedgerMonthlyTotalService.Changes changes = new LedgerMonthlyTotalService.Changes();
+        List<Expense> created = new ArrayList<>();
+        List<Expense> deleted = new ArrayList<>();
+        Map<Integer, Expense> written = new LinkedHashMap<>();
+        List<BatchExpenseResult> results = new ArrayList<>(operations.size());
+
+        for (int i = 0; i < operations.size(); i++) {
+            BatchExpenseOperation operation = operations.get(i);
+            BatchExpenseResult result = BatchExpenseResult.builder()
+                    .index(i)
+                    .op(operation.getOp())
+                    .id(operation.getId())
+                    .build();
+            try {
+                switch (operation.getOp()) {
+                    case CREATE -> {
+                        Expense expense = batchCreate(userId, ledgerId, operation, usableCategoryIds);
+                        created.add(expense);
+                        changes.add(expense);
+                        written.put(i, expense);
+                        result.setStatus(HttpStatus.CREATED.value());
+                    }
+                    case UPDATE -> {
+                        Expense expense = batchTarget(userId, role, operation, expenseMap,
+                                "You can only edit your own expenses or be an ADMIN+");
+                        LocalDate previousDate = expense.getExpenseDate();
+                        String previousCategoryId = expense.getCategoryId();
+                        BigDecimal previousAmount = expense.getAmount();
+                        applyUpdate(expense, operation.getUpdate(), usableCategoryIds);
+                        changes.update(expense, previousDate, previousCategoryId, previousAmount);
+                        written.put(i, expense);
+                        result.setStatus(HttpStatus.OK.value());
+                    }
+                    case DELETE -> {
+                        Expense expense = batchTarget(userId, role, operation, expenseMap,
+                                "You can only delete your own expenses or be an ADMIN+");
+                        expense.softDelete();
+                        changes.remove(expense);
+                        deleted.add(expense);
+                        result.setStatus(HttpStatus.NO_CONTENT.value());
+                    }
+                }
+            } catch (BadRequestException | ResourceNotFoundException | ForbiddenException e) {
+                ResponseStatus status = AnnotatedElementUtils.findMergedAnnotation(e.getClass(), ResponseStatus.class);
+                result.setStatus(status != null ? status.code().value() : HttpStatus.BAD_REQUEST.value());
+                result.setError(e.getMessage());
+            }
+            results.add(result);
+        }
+
+        if (results.stream().anyMatch(r -> r.getError() == null)) {
+            long changeSeq = ledgerVersionService.bump(ledgerId);
+            written.values().forEach(expense -> expense.setChangeSeq(changeSeq));
+            deleted.forEach(expense -> expense.setChangeSeq(changeSeq));
+        }
+
+        // Inserts and updates go out in JDBC batches on flush
+        expenseRepository.saveAll(created);
+        expenseRepository.flush();
+        monthlyTotalService.apply(changes);
+
+        List<Integer> indexes = new ArrayList<>(written.keySet());
+        List<ExpenseResponse> responses = toResponses(ledgerId, new ArrayList<>(written.values()));
+        for (int i = 0; i < indexes.size(); i++) {
+            BatchExpenseResult result = results.get(indexes.get(i));
+            result.setId(responses.get(i).getId());
+            result.setExpense(responses.get(i));
+        }
+        outboxService.appendAll(results.stream()
+                .filter(r -> r.getError() == null)
+                .map(r -> LedgerEvent.of(eventType(r.getOp()), ledgerId, r.getId(), userId, r.getExpense()))
+                .collect(Collectors.toList()));
+
+        int failed = (int) results.stream().filter(r -> r.getError() != null).count();
+        log.info("Applied batch to ledger: {} ({} succeeded, {} failed)",
+                ledgerId, results.size() - failed, failed);
+
+        return BatchExpenseResponse.builder()
+                .results(results)
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .build();
+    }
+
+    private LedgerEvent.Type eventType(BatchExpenseOperation.Type op) {
+        return switch (op) {
+            case CREATE -> LedgerEvent.Type.EXPENSE_CREATED;
+            case UPDATE -> LedgerEvent.Type.EXPENSE_UPDATED;
+            case DELETE -> LedgerEvent.Type.EXPENSE_DELETED;
+        };
+    }
+
+    /**
+     * Build a new expense from a batch CREATE operation.
+     */
+    private Expense batchCreate(String userId, String ledgerId, BatchExpenseOperation operation,
+                                Set<String> usableCategoryIds) {
+        CreateExpenseRequest request = operation.getCreate();
+        if (request == null) {
+            throw new BadRequestException("create is required for CREATE");
+        }
+        requireUsableCategory(request.getCategoryId(), usableCategoryIds);
+
+        return Expense.builder()
+                .ledgerId(ledgerId)
+                .categoryId(request.getCategoryId())
+                .amount(request.getAmount())
+                .description(request.getDescription())
+                .expenseDate(request.getExpenseDate())
+                .paymentMethod(request.getPaymentMethod())
+                .createdBy(userId)
+                .build();
+    }
+
+    /**
+     * Resolve and authorize the target expense of a batch UPDATE or DELETE operation.
+     */
+    private Expense batchTarget(String userId, MemberRole role, BatchExpenseOperation operation,
+                                Map<String, Expense> expenseMap, String forbiddenMessage) {
+        if (operation.getId() == null) {
+            throw new BadRequestException("id is required for " + operation.getOp());
+        }
+        if (operation.getOp() == BatchExpenseOperation.Type.UPDATE && operation.getUpdate() == null) {
+            throw new BadRequestException("update is required for UPDATE");
+        }
+
+        Expense expense = expenseMap.get(operation.getId());
+        if (expense == null || expense.isDeleted()) {
+            throw new ResourceNotFoundException("Expense", "id", operation.getId());
+        }
+
+        // Check permission: creator or ADMIN+
+        if (!expense.isCreatedBy(userId) && !role.canModifyLedger()) {
+            throw new ForbiddenException(forbiddenMessage);
+        }
+        return expense;
+    }
+
+    /**
+     * Apply a partial update to a managed expense; it is written on flush.
+     */
+    private void applyUpdate(Expense expense, UpdateExpenseRequest request, Set<String> usableCategoryIds) {
+        if (request.getCategoryId() != null) {
+            requireUsableCategory(request.getCategoryId(), usableCategoryIds);
+            expense.setCategoryId(request.getCategoryId());
+        }
+        if (request.getAmount() != null) {
+            expense.setAmount(request.getAmount());
+        }
+        if (request.getDescription() != null) {
+            expense.setDescription(request.getDescription());
+        }
+        if (request.getExpenseDate() != null) {
+            expense.setExpenseDate(request.getExpenseDate());
+        }
+        if (request.getPaymentMethod() != null) {
+            expense.setPaymentMethod(request.getPaymentMethod());
+        }
+    }
+
+    private void requireUsableCategory(String categoryId, Set<String> usableCategoryIds) {
+        if (categoryId != null && !usableCategoryIds.contains(categoryId)) {
+            throw new ResourceNotFoundException("Category", "id", categoryId);
+        }
+    }
+
+    private String categoryIdOf(BatchExpenseOperation operation) {
+        if (operation.getOp() == BatchExpenseOperation.Type.CREATE && operation.getCreate() != null) {
+            return operation.getCreate().getCategoryId();
+        }
+        if (operation.getOp() == BatchExpenseOperation.Type.UPDATE && operation.getUpdate() != null) {
+            return operation.getUpdate().getCategoryId();
+        }
+        return null;
+    }
+
+    /**
+     * Reject contradictory filter ranges.
+     */
+    private void validateQuery(ExpenseQuery query) {
+        if (query.getStartDate() != null && query.getEndDate() != null
+                && query.getStartDate().isAfter(query.getEndDate())) {
+            throw new BadRequestException("startDate must be on or before endDate");
+        }
+        if (query.getMinAmount() != null && query.getMaxAmount() != null
+                && query.getMinAmount().compareTo(query.getMaxAmount()) > 0) {
+            throw new BadRequestException("minAmount must be less than or equal to maxAmount");
+        }
+    }
+
     /**
      * Enrich expenses with category and user data.
+     * Package-private for the JMH benchmarks.
      */
-    private Page<ExpenseResponse> enrichExpenses(Page<Expense> expensePage, String ledgerId) {
+    Page<ExpenseResponse> enrichExpenses(Page<Expense> expensePage, String ledgerId) {
         if (expensePage.isEmpty()) {
             return new PageImpl<>(List.of(), expensePage.getPageable(), 0);
         }
 
-        // Collect all category IDs and user IDs
-        Set<String> categoryIds = expensePage.getContent().stream()
-                .map(Expense::getCategoryId)
-                .filter(id -> id != null)
-                .collect(Collectors.toSet());
+        List<ExpenseResponse> responses = toResponses(ledgerId, expensePage.getContent());
+
+        return new PageImpl<>(responses, expensePage.getPageable(), expensePage.getTotalElements());
+    }
+
+    /**
+     * Map expenses of a ledger to responses with categories and user display info from the reference caches.
+     */
+    private List<ExpenseResponse> toResponses(String ledgerId, List<Expense> expenses) {
+        if (expenses.isEmpty()) {
+            return List.of();
+        }
 
-        Set<String> userIds = expensePage.getContent().stream()
+        Set<String> userIds = expenses.stream()
                 .map(Expense::getCreatedBy)
                 .collect(Collectors.toSet());
+        Map<String, UserDisplay> users = userDisplayCache.getAll(ledgerId, userIds);
+        Map<String, CachedCategory> categories = categoryCache.getCategoriesById(ledgerId);
 
-        // Batch load categories
-        Map<String, Category> categoryMap = categoryRepository.findAllById(categoryIds).stream()
-                .collect(Collectors.toMap(Category::getId, c -> c));
-
-        // Batch load users
-        Map<String, User> userMap = userRepository.findAllById(userIds).stream()
-                .collect(Collectors.toMap(User::getId, u -> u));
-
-        // Map to responses
-        List<ExpenseResponse> responses = expensePage.getContent().stream()
-                .map(expense -> {
-                    Category category = expense.getCategoryId() != null
-                            ? categoryMap.get(expense.getCategoryId())
-                            : null;
-                    User user = userMap.get(expense.getCreatedBy());
-                    return ExpenseResponse.from(expense, category,
-                            user != null ? user.getName() : "Unknown",
-                            user != null ? user.getProfileImage() : null);
-                })
+        return expenses.stream()
+                .map(expense -> toResponse(expense, categories, users))
                 .collect(Collectors.toList());
-
-        return new PageImpl<>(responses, expensePage.getPageable(), expensePage.getTotalElements());
     }
 
     /**
      * Enrich a single expense with category and user data.
      */
     private ExpenseResponse enrichSingleExpense(Expense expense, String ledgerId) {
-        Category category = null;
-        if (expense.getCategoryId() != null) {
-            category = categoryRepository.findById(expense.getCategoryId()).orElse(null);
-        }
-
-        User user = userRepository.findById(expense.getCreatedBy()).orElse(null);
+        return toResponse(expense, categoryCache.getCategoriesById(ledgerId),
+                userDisplayCache.getAll(ledgerId, List.of(expense.getCreatedBy())));
+    }
 
-        return ExpenseResponse.from(expense, category,
-                user != null ? user.getName() : "Unknown",
-                user != null ? user.getProfileImage() : null);
+    private ExpenseResponse toResponse(Expense expense, Map<String, CachedCategory> categories,
+                                       Map<String, UserDisplay> users) {
+        CachedCategory category = expense.getCategoryId() != null
+                ? categories.get(expense.getCategoryId())
+                : null;
+        UserDisplay user = users.get(expense.getCreatedBy());
+        return ExpenseResponse.from(expense, category != null ? category.toResponse() : null,
+                user != null ? user.name() : "Unknown",
+                user != null ? user.profileImage() : null);
     }
 }
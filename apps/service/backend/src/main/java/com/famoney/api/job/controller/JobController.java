@@ -0,0 +1,218 @@
+package com.famoney.api.job.controller;
+
+import com.famoney.api.common.exception.BadRequestException;
+import com.famoney.api.common.security.CurrentLedgerRole;
+import com.famoney.api.common.security.CustomUserDetails;
+import com.famoney.api.common.security.RequiresLedgerRole;
+import com.famoney.api.expense.dto.ExpenseExportFormat;
+import com.famoney.api.job.dto.JobResponse;
+import com.famoney.api.job.entity.Job;
+import com.famoney.api.job.service.JobService;
+import com.famoney.api.job.service.LedgerJobService;
+import com.famoney.api.member.entity.MemberRole;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * REST Controller for background ledger jobs.
+ * Every member of a ledger can see its jobs; starting a job needs the role of the underlying operation.
+ */
+@RestController
+@RequestMapping("/api/v1/ledgers/{ledgerId}/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Jobs", description = "Background job API")
+@SecurityRequirement(name = "bearerAuth")
+public class JobController {
+
+    private final JobService jobService;
+    private final LedgerJobService ledgerJobService;
+
+    /**
+     * Get recent jobs of a ledger.
+     */
+    @GetMapping
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @Operation(summary = "작업 목록 조회", description = "원장의 최근 백그라운드 작업 목록을 최신순으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<List<JobResponse>> getJobs(
+            @PathVariable String ledgerId,
+            @Parameter(description = "조회 개수 (최대 100)")
+            @RequestParam(defaultValue = "20") int size) {
+
+        List<JobResponse> response = jobService.getJobs(ledgerId, size).stream()
+                .map(JobResponse::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get a job's status and progress.
+     */
+    @GetMapping("/{jobId}")
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @Operation(summary = "작업 상태 조회", description = "백그라운드 작업의 상태와 진행 상황을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    public ResponseEntity<JobResponse> getJob(
+            @PathVariable String ledgerId,
+            @PathVariable String jobId) {
+
+        return ResponseEntity.ok(JobResponse.from(jobService.getJob(ledgerId, jobId)));
+    }
+
+    /**
+     * Download a job's result file.
+     */
+    @GetMapping("/{jobId}/result")
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @Operation(summary = "작업 결과 다운로드",
+            description = "완료된 작업의 결과 파일을 내려받습니다. 내보내기는 내보낸 파일, 가져오기는 오류 행 목록입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "다운로드 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "작업 또는 결과 파일을 찾을 수 없음")
+    })
+    public ResponseEntity<Resource> getJobResult(
+            @PathVariable String ledgerId,
+            @PathVariable String jobId) {
+
+        JobService.JobResult result = jobService.getResult(ledgerId, jobId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(result.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(result.filename()).build().toString())
+                .body(result.file());
+    }
+
+    /**
+     * Cancel a queued or running job.
+     */
+    @PostMapping("/{jobId}/cancel")
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @Operation(summary = "작업 취소",
+            description = "대기 중이거나 실행 중인 작업을 취소합니다. 본인의 작업 또는 ADMIN+ 권한이 필요합니다. " +
+                    "실행 중인 가져오기는 이미 저장된 행을 유지합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "취소 요청 성공"),
+            @ApiResponse(responseCode = "400", description = "이미 종료된 작업"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    public ResponseEntity<JobResponse> cancelJob(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId,
+            @CurrentLedgerRole MemberRole role,
+            @PathVariable String jobId) {
+
+        Job job = jobService.cancel(userDetails.getId(), ledgerId, role, jobId);
+        return ResponseEntity.ok(JobResponse.from(job));
+    }
+
+    /**
+     * Start an expense export job.
+     */
+    @PostMapping("/expense-export")
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @Operation(summary = "지출 내보내기 작업 시작", description = "지출 내보내기를 백그라운드 작업으로 시작합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "작업 등록"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "503", description = "작업 대기열이 가득 참")
+    })
+    public ResponseEntity<JobResponse> startExpenseExport(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId,
+            @Parameter(description = "파일 형식 (CSV, XLSX)")
+            @RequestParam(defaultValue = "CSV") ExpenseExportFormat format,
+            @Parameter(description = "시작 날짜 (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        Job job = ledgerJobService.submitExpenseExport(userDetails.getId(), ledgerId, startDate, endDate, format);
+        return ResponseEntity.accepted().body(JobResponse.from(job));
+    }
+
+    /**
+     * Start an expense import job.
+     */
+    @PostMapping(value = "/expense-import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RequiresLedgerRole(value = MemberRole.MEMBER, message = "VIEWER cannot create expenses")
+    @Operation(summary = "지출 가져오기 작업 시작",
+            description = "CSV 지출 가져오기를 백그라운드 작업으로 시작합니다. 오류가 있는 행은 결과 파일로 내려받을 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "작업 등록"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "503", description = "작업 대기열이 가득 참")
+    })
+    public ResponseEntity<JobResponse> startExpenseImport(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId,
+            @Parameter(description = "CSV 파일 (첫 행은 헤더)")
+            @RequestPart("file") MultipartFile file,
+            @Parameter(description = "파일 인코딩 (예: UTF-8, EUC-KR)")
+            @RequestParam(defaultValue = "UTF-8") String encoding) throws IOException {
+
+        if (file.isEmpty()) {
+            throw new BadRequestException("File is empty");
+        }
+        try (InputStream in = file.getInputStream()) {
+            Job job = ledgerJobService.submitExpenseImport(userDetails.getId(), ledgerId, in, encoding);
+            return ResponseEntity.accepted().body(JobResponse.from(job));
+        }
+    }
+
+    /**
+     * Start a monthly totals rebuild job.
+     */
+    @PostMapping("/rollup-rebuild")
+    @RequiresLedgerRole(value = MemberRole.ADMIN, message = "Only ADMIN+ can rebuild statistics")
+    @Operation(summary = "월별 집계 재계산 작업 시작", description = "원장의 월별 집계를 지출 내역으로부터 다시 계산합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "작업 등록"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "503", description = "작업 대기열이 가득 참")
+    })
+    public ResponseEntity<JobResponse> startRollupRebuild(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId) {
+
+        Job job = ledgerJobService.submitRollupRebuild(userDetails.getId(), ledgerId);
+        return ResponseEntity.accepted().body(JobResponse.from(job));
+    }
+}
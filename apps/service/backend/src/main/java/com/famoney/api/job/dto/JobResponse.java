@@ -0,0 +1,60 @@
+package com.famoney.api.job.dto;
+
+import com.famoney.api.job.entity.Job;
+import com.famoney.api.job.entity.JobStatus;
+import com.famoney.api.job.entity.JobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a background job.
+ * processedItems and failedItems are rows for exports and imports; resultAvailable tells
+ * whether GET .../result returns a file.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobResponse {
+
+    private String id;
+    private String ledgerId;
+    private JobType type;
+    private JobStatus status;
+    private boolean cancelRequested;
+    private String createdBy;
+    private long processedItems;
+    private long failedItems;
+    private boolean resultAvailable;
+    private String resultFilename;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    /**
+     * Create JobResponse from Job entity.
+     */
+    public static JobResponse from(Job job) {
+        return JobResponse.builder()
+                .id(job.getId())
+                .ledgerId(job.getLedgerId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .cancelRequested(job.isCancelRequested())
+                .createdBy(job.getCreatedBy())
+                .processedItems(job.getProcessedItems())
+                .failedItems(job.getFailedItems())
+                .resultAvailable(job.hasResult())
+                .resultFilename(job.getResultFilename())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
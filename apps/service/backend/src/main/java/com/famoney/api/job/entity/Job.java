@@ -0,0 +1,113 @@
+package com.famoney.api.job.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+
+/**
+ * Job entity tracking a background operation on a ledger.
+ * Progress and final state are written by the job runner with targeted updates.
+ */
+@Entity
+@Table(name = "jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Job {
+
+    @Id
+    @UuidGenerator
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "ledger_id", nullable = false, length = 36)
+    private String ledgerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private JobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status;
+
+    @Column(name = "created_by", nullable = false, length = 36)
+    private String createdBy;
+
+    /**
+     * Instance running the job.
+     */
+    @Column(length = 36)
+    private String owner;
+
+    /**
+     * Last time the owner reported the job alive; unfinished jobs past the lease are failed.
+     */
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * Cancellation of the running job was requested; the owner stops it at its next progress write.
+     */
+    @Column(name = "cancel_requested", nullable = false)
+    private boolean cancelRequested;
+
+    @Column(name = "processed_items", nullable = false)
+    private long processedItems;
+
+    @Column(name = "failed_items", nullable = false)
+    private long failedItems;
+
+    @Column(name = "result_filename", length = 255)
+    private String resultFilename;
+
+    @Column(name = "result_content_type", length = 100)
+    private String resultContentType;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        if (heartbeatAt == null) {
+            heartbeatAt = createdAt;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Check if the job has a downloadable result file.
+     */
+    public boolean hasResult() {
+        return status == JobStatus.SUCCEEDED && resultFilename != null;
+    }
+
+    /**
+     * Check if the job was created by a specific user.
+     */
+    public boolean isCreatedBy(String userId) {
+        return this.createdBy.equals(userId);
+    }
+}
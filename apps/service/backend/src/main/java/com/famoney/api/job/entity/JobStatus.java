@@ -0,0 +1,22 @@
+package com.famoney.api.job.entity;
+
+/**
+ * Lifecycle states of a background job.
+ *
+ * QUEUED -> RUNNING -> SUCCEEDED | FAILED | CANCELLED
+ * A queued job can also be cancelled before it starts.
+ */
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED;
+
+    /**
+     * Check if the job has reached a final state.
+     */
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
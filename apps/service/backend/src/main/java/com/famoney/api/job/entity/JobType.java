@@ -0,0 +1,21 @@
+package com.famoney.api.job.entity;
+
+/**
+ * Kinds of background jobs.
+ */
+public enum JobType {
+    /**
+     * Export expenses to a CSV or XLSX result file.
+     */
+    EXPENSE_EXPORT,
+
+    /**
+     * Import expenses from an uploaded CSV file; the result file lists rejected rows.
+     */
+    EXPENSE_IMPORT,
+
+    /**
+     * Rebuild the ledger's monthly totals rollup.
+     */
+    ROLLUP_REBUILD
+}
@@ -0,0 +1,127 @@
+package com.famoney.api.job.repository;
+
+import com.famoney.api.job.entity.Job;
+import com.famoney.api.job.entity.JobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for Job entity.
+ * State transitions are conditional updates so the runner and cancel requests cannot overwrite each other;
+ * each runs in its own transaction.
+ */
+@Repository
+public interface JobRepository extends JpaRepository<Job, String> {
+
+    /**
+     * Find a job of a ledger.
+     */
+    Optional<Job> findByIdAndLedgerId(String id, String ledgerId);
+
+    /**
+     * Find the most recent jobs of a ledger.
+     */
+    List<Job> findByLedgerIdOrderByCreatedAtDesc(String ledgerId, Pageable pageable);
+
+    /**
+     * Move a queued job to RUNNING. Returns 0 if it was cancelled meanwhile.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.status = com.famoney.api.job.entity.JobStatus.RUNNING, " +
+           "j.startedAt = :now, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = com.famoney.api.job.entity.JobStatus.QUEUED")
+    int markRunning(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    /**
+     * Record progress of a running job. Returns 0 if cancellation was requested or the job is no longer running.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.processedItems = :processed, j.failedItems = :failed, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = com.famoney.api.job.entity.JobStatus.RUNNING " +
+           "AND j.cancelRequested = false")
+    int updateProgress(
+            @Param("id") String id,
+            @Param("processed") long processed,
+            @Param("failed") long failed,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Move an unfinished job to a final state. Returns 0 if it had already finished.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.status = :status, j.processedItems = :processed, j.failedItems = :failed, " +
+           "j.resultFilename = :resultFilename, j.resultContentType = :resultContentType, " +
+           "j.errorMessage = :errorMessage, j.finishedAt = :now, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status IN (com.famoney.api.job.entity.JobStatus.QUEUED, " +
+           "com.famoney.api.job.entity.JobStatus.RUNNING)")
+    int finish(
+            @Param("id") String id,
+            @Param("status") JobStatus status,
+            @Param("processed") long processed,
+            @Param("failed") long failed,
+            @Param("resultFilename") String resultFilename,
+            @Param("resultContentType") String resultContentType,
+            @Param("errorMessage") String errorMessage,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Cancel a job that has not started yet.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.status = com.famoney.api.job.entity.JobStatus.CANCELLED, " +
+           "j.finishedAt = :now, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = com.famoney.api.job.entity.JobStatus.QUEUED")
+    int cancelQueued(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    /**
+     * Ask the instance running a job to stop it. Returns 0 if the job is not running.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.cancelRequested = true, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = com.famoney.api.job.entity.JobStatus.RUNNING")
+    int requestCancel(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    /**
+     * Refresh the heartbeat of an instance's unfinished jobs.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.heartbeatAt = :now " +
+           "WHERE j.owner = :owner AND j.status IN (com.famoney.api.job.entity.JobStatus.QUEUED, " +
+           "com.famoney.api.job.entity.JobStatus.RUNNING)")
+    int heartbeat(@Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /**
+     * Fail unfinished jobs whose owner stopped sending heartbeats, e.g. after a restart or crash.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.status = com.famoney.api.job.entity.JobStatus.FAILED, " +
+           "j.errorMessage = :errorMessage, j.finishedAt = :now, j.updatedAt = :now " +
+           "WHERE j.status IN (com.famoney.api.job.entity.JobStatus.QUEUED, " +
+           "com.famoney.api.job.entity.JobStatus.RUNNING) AND j.heartbeatAt < :expiredBefore")
+    int failExpired(
+            @Param("errorMessage") String errorMessage,
+            @Param("expiredBefore") LocalDateTime expiredBefore,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Find ids of finished jobs older than the cutoff.
+     */
+    @Query("SELECT j.id FROM Job j WHERE j.finishedAt < :cutoff")
+    List<String> findIdsFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,11 @@
+package com.famoney.api.job.service;
+
+/**
+ * Thrown from {@link JobContext#progress} once cancellation of the running job was requested.
+ */
+public class JobCancelledException extends RuntimeException {
+
+    public JobCancelledException(String jobId) {
+        super("Job cancelled: " + jobId);
+    }
+}
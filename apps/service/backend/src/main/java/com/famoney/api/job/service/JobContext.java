@@ -0,0 +1,111 @@
+package com.famoney.api.job.service;
+
+import com.famoney.api.job.repository.JobRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Handle given to a running {@link JobTask}.
+ * Progress is kept in memory and written to the job row at most once per interval; the write also
+ * picks up a cancellation requested on another instance.
+ */
+public class JobContext {
+
+    /**
+     * Minimum time between progress writes, in milliseconds.
+     */
+    private static final long PROGRESS_WRITE_INTERVAL_MS = 1000;
+
+    private final String jobId;
+    private final JobRepository jobRepository;
+    private final JobFileStore fileStore;
+
+    private volatile boolean cancelRequested;
+    private volatile long processedItems;
+    private volatile long failedItems;
+    private long lastProgressWrite;
+    private String resultFilename;
+    private String resultContentType;
+
+    JobContext(String jobId, JobRepository jobRepository, JobFileStore fileStore) {
+        this.jobId = jobId;
+        this.jobRepository = jobRepository;
+        this.fileStore = fileStore;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Report progress and stop the task if cancellation was requested.
+     *
+     * @throws JobCancelledException if the job was cancelled
+     */
+    public void progress(long processed, long failed) {
+        this.processedItems = processed;
+        this.failedItems = failed;
+        throwIfCancelled();
+
+        long now = System.currentTimeMillis();
+        if (now - lastProgressWrite >= PROGRESS_WRITE_INTERVAL_MS) {
+            lastProgressWrite = now;
+            if (jobRepository.updateProgress(jobId, processed, failed, LocalDateTime.now()) == 0) {
+                // Cancelled from any instance, or no longer ours to run
+                requestCancel();
+                throwIfCancelled();
+            }
+        }
+    }
+
+    /**
+     * Stop the task if cancellation was requested.
+     *
+     * @throws JobCancelledException if the job was cancelled
+     */
+    public void throwIfCancelled() {
+        if (cancelRequested) {
+            throw new JobCancelledException(jobId);
+        }
+    }
+
+    /**
+     * Open the job's result file. The caller closes the stream.
+     */
+    public OutputStream createResult(String filename, String contentType) throws IOException {
+        this.resultFilename = filename;
+        this.resultContentType = contentType;
+        return fileStore.createResult(jobId);
+    }
+
+    /**
+     * Drop a result file that turned out not to be needed.
+     */
+    public void discardResult() {
+        fileStore.deleteResult(jobId);
+        this.resultFilename = null;
+        this.resultContentType = null;
+    }
+
+    void requestCancel() {
+        this.cancelRequested = true;
+    }
+
+    long getProcessedItems() {
+        return processedItems;
+    }
+
+    long getFailedItems() {
+        return failedItems;
+    }
+
+    String getResultFilename() {
+        return resultFilename;
+    }
+
+    String getResultContentType() {
+        return resultContentType;
+    }
+}
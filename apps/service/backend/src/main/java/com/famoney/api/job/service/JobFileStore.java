@@ -0,0 +1,119 @@
+package com.famoney.api.job.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Local-disk store for job uploads and result files.
+ * Results are stored under the job id; uploads under a generated key until the job consumes them.
+ * The directory is not replicated: instances serving the same jobs must share it.
+ */
+@Slf4j
+@Component
+public class JobFileStore {
+
+    private static final String RESULT_SUFFIX = ".result";
+    private static final String UPLOAD_PREFIX = "upload-";
+
+    private final Path root;
+
+    public JobFileStore(@Value("${job.storage.dir:${java.io.tmpdir}/famoney-jobs}") Path root) throws IOException {
+        this.root = Files.createDirectories(root);
+        log.info("Job files stored in {}", this.root.toAbsolutePath());
+    }
+
+    /**
+     * Copy an uploaded file into the store and return its key.
+     */
+    public String saveUpload(InputStream in) throws IOException {
+        String key = UPLOAD_PREFIX + UUID.randomUUID();
+        Files.copy(in, root.resolve(key), StandardCopyOption.REPLACE_EXISTING);
+        return key;
+    }
+
+    /**
+     * Open a stored upload.
+     */
+    public InputStream openUpload(String key) throws IOException {
+        return Files.newInputStream(root.resolve(key));
+    }
+
+    /**
+     * Open the result file of a job for writing, replacing any previous content.
+     */
+    public OutputStream createResult(String jobId) throws IOException {
+        return Files.newOutputStream(resultPath(jobId));
+    }
+
+    /**
+     * Find the result file of a job.
+     */
+    public Optional<Resource> findResult(String jobId) {
+        Path path = resultPath(jobId);
+        return Files.isRegularFile(path) ? Optional.of(new FileSystemResource(path)) : Optional.empty();
+    }
+
+    /**
+     * Delete the result file of a job if present.
+     */
+    public void deleteResult(String jobId) {
+        delete(resultPath(jobId));
+    }
+
+    /**
+     * Delete a stored upload if present.
+     */
+    public void deleteUpload(String key) {
+        delete(root.resolve(key));
+    }
+
+    /**
+     * Delete every stored file last modified before the cutoff.
+     */
+    public int deleteOlderThan(Instant cutoff) {
+        try (Stream<Path> files = Files.list(root)) {
+            return (int) files
+                    .filter(path -> isOlderThan(path, cutoff))
+                    .filter(this::delete)
+                    .count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path resultPath(String jobId) {
+        return root.resolve(jobId + RESULT_SUFFIX);
+    }
+
+    private boolean isOlderThan(Path path, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean delete(Path path) {
+        try {
+            return Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete job file: {}", path, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.famoney.api.job.service;
+
+import com.famoney.api.common.exception.BadRequestException;
+import com.famoney.api.common.exception.ForbiddenException;
+import com.famoney.api.common.exception.ResourceNotFoundException;
+import com.famoney.api.common.exception.ServiceUnavailableException;
+import com.famoney.api.job.entity.Job;
+import com.famoney.api.job.entity.JobStatus;
+import com.famoney.api.job.entity.JobType;
+import com.famoney.api.job.repository.JobRepository;
+import com.famoney.api.member.entity.MemberRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service running background jobs on a bounded executor and tracking them in the jobs table.
+ * Ledger membership and minimum roles are checked by {@code @RequiresLedgerRole} on the controller.
+ * Jobs run in the process that accepted them, which refreshes their heartbeat; unfinished jobs whose
+ * heartbeat is older than job.lease (their instance stopped) are failed by any instance.
+ * Result files are written to job.storage.dir of the owner, so with several instances it must be a
+ * shared volume; otherwise results can only be downloaded from the instance that ran the job.
+ */
+@Slf4j
+@Service
+public class JobService {
+
+    /**
+     * Maximum number of jobs returned by the list endpoint.
+     */
+    private static final int MAX_LIST_SIZE = 100;
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JobRepository jobRepository;
+    private final JobFileStore fileStore;
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+    private final Duration lease;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, JobContext> running = new ConcurrentHashMap<>();
+
+    public JobService(
+            JobRepository jobRepository,
+            JobFileStore fileStore,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${job.executor.pool-size:2}") int poolSize,
+            @Value("${job.executor.queue-capacity:20}") int queueCapacity,
+            @Value("${job.retention:24h}") Duration retention,
+            @Value("${job.lease:2m}") Duration lease
+    ) {
+        this.jobRepository = jobRepository;
+        this.fileStore = fileStore;
+        this.retention = retention;
+        this.lease = lease;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(environment));
+        new ExecutorServiceMetrics(executor, "jobs", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Create a job and queue it for execution.
+     * The job row is committed before the task is queued so the runner always finds it.
+     *
+     * @throws ServiceUnavailableException if the job queue is full
+     */
+    public Job submit(JobType type, String userId, String ledgerId, JobTask task) {
+        Job job = jobRepository.save(Job.builder()
+                .ledgerId(ledgerId)
+                .type(type)
+                .status(JobStatus.QUEUED)
+                .createdBy(userId)
+                .owner(instanceId)
+                .build());
+
+        try {
+            executor.execute(() -> run(job.getId(), task));
+        } catch (RejectedExecutionException e) {
+            jobRepository.finish(job.getId(), JobStatus.FAILED, 0, 0, null, null,
+                    "Job queue is full", LocalDateTime.now());
+            throw new ServiceUnavailableException("Too many jobs are running, try again later");
+        }
+
+        log.info("Queued {} job: {} for ledger: {} by user: {}", type, job.getId(), ledgerId, userId);
+        return job;
+    }
+
+    /**
+     * Get a job of a ledger.
+     */
+    @Transactional(readOnly = true)
+    public Job getJob(String ledgerId, String jobId) {
+        return jobRepository.findByIdAndLedgerId(jobId, ledgerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", jobId));
+    }
+
+    /**
+     * Get the most recent jobs of a ledger.
+     */
+    @Transactional(readOnly = true)
+    public List<Job> getJobs(String ledgerId, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_LIST_SIZE));
+        return jobRepository.findByLedgerIdOrderByCreatedAtDesc(ledgerId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Get the result file of a finished job from job.storage.dir.
+     */
+    @Transactional(readOnly = true)
+    public JobResult getResult(String ledgerId, String jobId) {
+        Job job = getJob(ledgerId, jobId);
+        if (!job.hasResult()) {
+            throw new ResourceNotFoundException("Job result", "jobId", jobId);
+        }
+        Resource file = fileStore.findResult(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job result", "jobId", jobId));
+        return new JobResult(file, job.getResultFilename(), job.getResultContentType());
+    }
+
+    /**
+     * Cancel a queued or running job.
+     * A queued job is cancelled at once. A running job is flagged in the jobs table and stops at its next
+     * progress report; on the instance running it, at once.
+     * Only the creator or ADMIN+ can cancel; role is the caller's role in the ledger.
+     */
+    public Job cancel(String userId, String ledgerId, MemberRole role, String jobId) {
+        Job job = getJob(ledgerId, jobId);
+
+        // Check permission: creator or ADMIN+
+        if (!job.isCreatedBy(userId) && !role.canModifyLedger()) {
+            throw new ForbiddenException("You can only cancel your own jobs or be an ADMIN+");
+        }
+        if (job.getStatus().isFinished()) {
+            throw new BadRequestException("Job has already finished");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.cancelQueued(jobId, now) == 0 && jobRepository.requestCancel(jobId, now) > 0) {
+            JobContext context = running.get(jobId);
+            if (context != null) {
+                context.requestCancel();
+            }
+        }
+        log.info("Cancel requested for job: {} by user: {}", jobId, userId);
+
+        return getJob(ledgerId, jobId);
+    }
+
+    /**
+     * Refresh this instance's job heartbeats, and fail jobs of instances that stopped
+     * (including a previous run of this one) once their lease has expired.
+     */
+    @Scheduled(fixedDelayString = "${job.heartbeat-interval:30s}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.heartbeat(instanceId, now);
+        int failed = jobRepository.failExpired("Interrupted: the server running the job stopped", now.minus(lease), now);
+        if (failed > 0) {
+            log.warn("Marked {} interrupted jobs as failed", failed);
+        }
+    }
+
+    /**
+     * Delete jobs finished before the retention period, and stale files.
+     */
+    @Scheduled(cron = "${job.cleanup-cron:0 15 * * * *}")
+    public void purgeExpiredJobs() {
+        List<String> jobIds = jobRepository.findIdsFinishedBefore(LocalDateTime.now().minus(retention));
+        jobIds.forEach(fileStore::deleteResult);
+        jobRepository.deleteAllByIdInBatch(jobIds);
+        int files = fileStore.deleteOlderThan(Instant.now().minus(retention));
+
+        log.info("Purged {} expired jobs and {} stale job files", jobIds.size(), files);
+    }
+
+    /**
+     * Virtual worker threads when enabled; the pool size still bounds how many jobs run at once.
+     */
+    private static ThreadFactory threadFactory(Environment environment) {
+        return Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("job-").getVirtualThreadFactory()
+                : new CustomizableThreadFactory("job-");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(String jobId, JobTask task) {
+        // Register before starting so a cancel request between the two cannot be lost
+        JobContext context = new JobContext(jobId, jobRepository, fileStore);
+        running.put(jobId, context);
+        try {
+            if (jobRepository.markRunning(jobId, LocalDateTime.now()) == 0) {
+                log.info("Skipping job: {} (cancelled before start)", jobId);
+                return;
+            }
+
+            try {
+                task.run(context);
+                complete(context, JobStatus.SUCCEEDED, null);
+            } catch (JobCancelledException e) {
+                context.discardResult();
+                complete(context, JobStatus.CANCELLED, null);
+            } catch (Exception e) {
+                log.error("Job failed: {}", jobId, e);
+                context.discardResult();
+                complete(context, JobStatus.FAILED, failureMessage(e));
+            }
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    private void complete(JobContext context, JobStatus status, String errorMessage) {
+        jobRepository.finish(context.getJobId(), status, context.getProcessedItems(), context.getFailedItems(),
+                context.getResultFilename(), context.getResultContentType(), errorMessage, LocalDateTime.now());
+        log.info("Job {}: {} ({} processed, {} failed)", status, context.getJobId(),
+                context.getProcessedItems(), context.getFailedItems());
+    }
+
+    /**
+     * Expose messages of client errors; hide internal ones.
+     */
+    private String failureMessage(Exception e) {
+        String message = e instanceof BadRequestException || e instanceof ResourceNotFoundException
+                ? e.getMessage()
+                : "Unexpected error";
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    /**
+     * Result file of a job with its download name and content type.
+     */
+    public record JobResult(Resource file, String filename, String contentType) {
+    }
+}
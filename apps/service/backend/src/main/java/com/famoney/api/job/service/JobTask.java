@@ -0,0 +1,11 @@
+package com.famoney.api.job.service;
+
+/**
+ * Work performed by a background job.
+ * Implementations report progress through the context, which also signals cancellation.
+ */
+@FunctionalInterface
+public interface JobTask {
+
+    void run(JobContext context) throws Exception;
+}
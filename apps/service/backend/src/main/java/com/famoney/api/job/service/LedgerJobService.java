@@ -0,0 +1,94 @@
+package com.famoney.api.job.service;
+
+import com.famoney.api.expense.dto.ExpenseExportFormat;
+import com.famoney.api.expense.dto.ExpenseImportResponse;
+import com.famoney.api.expense.service.ExpenseExportService;
+import com.famoney.api.expense.service.ExpenseImportService;
+import com.famoney.api.job.entity.Job;
+import com.famoney.api.job.entity.JobType;
+import com.famoney.api.statistics.service.LedgerMonthlyTotalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Service starting the background jobs available on a ledger.
+ * Arguments are validated before the job is queued; the work itself runs on the job executor.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerJobService {
+
+    private final JobService jobService;
+    private final JobFileStore fileStore;
+    private final ExpenseExportService expenseExportService;
+    private final ExpenseImportService expenseImportService;
+    private final LedgerMonthlyTotalService monthlyTotalService;
+
+    /**
+     * Export expenses to a result file.
+     */
+    public Job submitExpenseExport(String userId, String ledgerId, LocalDate startDate, LocalDate endDate,
+                                   ExpenseExportFormat format) {
+        expenseExportService.validateRange(startDate, endDate);
+        String filename = "expenses-" + LocalDate.now() + "." + format.getExtension();
+
+        return jobService.submit(JobType.EXPENSE_EXPORT, userId, ledgerId, context -> {
+            try (OutputStream out = context.createResult(filename, format.getMediaType().toString())) {
+                long rows = expenseExportService.write(ledgerId, startDate, endDate, format, out,
+                        written -> context.progress(written, 0));
+                context.progress(rows, 0);
+            }
+        });
+    }
+
+    /**
+     * Import expenses from an uploaded CSV file.
+     * The upload is copied to the job store first; rejected rows go to the result file.
+     */
+    public Job submitExpenseImport(String userId, String ledgerId, InputStream upload, String encoding)
+            throws IOException {
+        String uploadKey = fileStore.saveUpload(upload);
+
+        try {
+            return jobService.submit(JobType.EXPENSE_IMPORT, userId, ledgerId, context -> {
+                try (InputStream in = fileStore.openUpload(uploadKey);
+                     Writer errors = new OutputStreamWriter(
+                             context.createResult("import-errors.csv", "text/csv;charset=UTF-8"),
+                             StandardCharsets.UTF_8)) {
+                    ExpenseImportResponse result = expenseImportService.importCsv(userId, ledgerId, in, encoding,
+                            errors, (processed, imported, failed) -> context.progress(processed, failed));
+                    context.progress(result.getTotalRows(), result.getFailedRows());
+                    if (result.getFailedRows() == 0) {
+                        errors.close();
+                        context.discardResult();
+                    }
+                } finally {
+                    fileStore.deleteUpload(uploadKey);
+                }
+            });
+        } catch (RuntimeException e) {
+            fileStore.deleteUpload(uploadKey);
+            throw e;
+        }
+    }
+
+    /**
+     * Rebuild the ledger's monthly totals rollup.
+     */
+    public Job submitRollupRebuild(String userId, String ledgerId) {
+        return jobService.submit(JobType.ROLLUP_REBUILD, userId, ledgerId, context -> {
+            context.throwIfCancelled();
+            monthlyTotalService.rebuild(ledgerId);
+        });
+    }
+}
@@ -1,10 +1,14 @@
 package com.famoney.api.ledger.controller;
 
+import com.famoney.api.common.security.CurrentLedgerRole;
 import com.famoney.api.common.security.CustomUserDetails;
+import com.famoney.api.common.security.RequiresLedgerRole;
+import com.famoney.api.common.web.LedgerETag;
 import com.famoney.api.ledger.dto.CreateLedgerRequest;
 import com.famoney.api.ledger.dto.LedgerResponse;
 import com.famoney.api.ledger.dto.UpdateLedgerRequest;
 import com.famoney.api.ledger.service.LedgerService;
+import com.famoney.api.member.entity.MemberRole;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -67,17 +71,21 @@ public class LedgerController {
      * Get a specific ledger by ID.
      */
     @GetMapping("/{ledgerId}")
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @LedgerETag
     @Operation(summary = "원장 상세 조회", description = "특정 원장의 상세 정보를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "401", description = "인증 필요"),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
             @ApiResponse(responseCode = "404", description = "원장을 찾을 수 없음")
     })
     public ResponseEntity<LedgerResponse> getLedger(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @PathVariable String ledgerId) {
-        LedgerResponse response = ledgerService.getLedger(userDetails.getId(), ledgerId);
+            @PathVariable String ledgerId,
+            @CurrentLedgerRole MemberRole role) {
+        LedgerResponse response = ledgerService.getLedger(userDetails.getId(), ledgerId, role);
         return ResponseEntity.ok(response);
     }
 
@@ -85,6 +93,7 @@ public class LedgerController {
      * Update a ledger.
      */
     @PatchMapping("/{ledgerId}")
+    @RequiresLedgerRole(value = MemberRole.ADMIN, message = "Only OWNER and ADMIN can modify the ledger")
     @Operation(summary = "원장 수정", description = "원장 정보를 수정합니다. OWNER 또는 ADMIN만 가능합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "수정 성공"),
@@ -96,8 +105,9 @@ public class LedgerController {
     public ResponseEntity<LedgerResponse> updateLedger(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable String ledgerId,
+            @CurrentLedgerRole MemberRole role,
             @Valid @RequestBody UpdateLedgerRequest request) {
-        LedgerResponse response = ledgerService.updateLedger(userDetails.getId(), ledgerId, request);
+        LedgerResponse response = ledgerService.updateLedger(userDetails.getId(), ledgerId, role, request);
         return ResponseEntity.ok(response);
     }
 
@@ -105,6 +115,7 @@ public class LedgerController {
      * Delete a ledger (soft delete).
      */
     @DeleteMapping("/{ledgerId}")
+    @RequiresLedgerRole(value = MemberRole.OWNER, message = "Only OWNER can delete the ledger")
     @Operation(summary = "원장 삭제", description = "원장을 삭제합니다. OWNER만 가능합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "삭제 성공"),
@@ -45,6 +45,13 @@ public class Ledger {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    /**
+     * Incremented on every change to the ledger or its expenses, categories and members.
+     * Written only through {@code LedgerRepository.incrementVersion}.
+     */
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
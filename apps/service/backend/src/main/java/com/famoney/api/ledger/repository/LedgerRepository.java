@@ -1,9 +1,15 @@
 package com.famoney.api.ledger.repository;
 
 import com.famoney.api.ledger.entity.Ledger;
+import com.famoney.api.member.entity.MemberRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,4 +22,79 @@ public interface LedgerRepository extends JpaRepository<Ledger, String> {
      * Find ledger by ID excluding soft-deleted ones.
      */
     Optional<Ledger> findByIdAndDeletedAtIsNull(String id);
+
+    /**
+     * Find IDs of all active (non-deleted) ledgers.
+     */
+    @Query("SELECT l.id FROM Ledger l WHERE l.deletedAt IS NULL")
+    List<String> findActiveLedgerIds();
+
+    /**
+     * Find the version and last modification time of an active ledger.
+     */
+    @Query("SELECT l.version AS version, l.updatedAt AS updatedAt FROM Ledger l " +
+           "WHERE l.id = :id AND l.deletedAt IS NULL")
+    Optional<LedgerVersion> findVersionById(@Param("id") String id);
+
+    /**
+     * Get the version of a ledger, including changes made earlier in the current transaction.
+     */
+    @Query("SELECT l.version FROM Ledger l WHERE l.id = :id")
+    long getVersionById(@Param("id") String id);
+
+    /**
+     * Increment the version of a ledger and set its modification time.
+     * Takes the ledger row lock until the transaction ends.
+     */
+    @Modifying
+    @Query("UPDATE Ledger l SET l.version = l.version + 1, l.updatedAt = :now WHERE l.id = :ledgerId")
+    int incrementVersion(@Param("ledgerId") String ledgerId, @Param("now") LocalDateTime now);
+
+    /**
+     * Take the ledger row lock until the transaction ends without changing the ledger,
+     * to wait for and hold off writers that lock it through {@link #incrementVersion}.
+     */
+    @Query(value = "SELECT id FROM ledgers WHERE id = :ledgerId FOR UPDATE", nativeQuery = true)
+    Optional<String> lockById(@Param("ledgerId") String ledgerId);
+
+    /**
+     * Increment the version of every ledger the user is a member of.
+     */
+    @Modifying
+    @Query("UPDATE Ledger l SET l.version = l.version + 1, l.updatedAt = :now " +
+           "WHERE l.id IN (SELECT m.ledgerId FROM Member m WHERE m.userId = :userId)")
+    int incrementVersionForMember(@Param("userId") String userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Find all active ledgers of a user with the user's role and the member count, in one query.
+     */
+    @Query("SELECT l.id AS id, l.name AS name, l.description AS description, l.currency AS currency, " +
+           "l.createdAt AS createdAt, m.role AS myRole, COUNT(other.id) AS memberCount " +
+           "FROM Member m JOIN Ledger l ON l.id = m.ledgerId " +
+           "JOIN Member other ON other.ledgerId = l.id " +
+           "WHERE m.userId = :userId AND l.deletedAt IS NULL " +
+           "GROUP BY l.id, l.name, l.description, l.currency, l.createdAt, m.role " +
+           "ORDER BY l.createdAt ASC")
+    List<LedgerSummary> findSummariesByUserId(@Param("userId") String userId);
+
+    /**
+     * Ledger row with the requesting user's role and the member count.
+     */
+    interface LedgerSummary {
+        String getId();
+        String getName();
+        String getDescription();
+        String getCurrency();
+        LocalDateTime getCreatedAt();
+        MemberRole getMyRole();
+        long getMemberCount();
+    }
+
+    /**
+     * Version of a ledger's content.
+     */
+    interface LedgerVersion {
+        long getVersion();
+        LocalDateTime getUpdatedAt();
+    }
 }
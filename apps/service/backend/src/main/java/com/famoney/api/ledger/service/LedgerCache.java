@@ -0,0 +1,43 @@
+package com.famoney.api.ledger.service;
+
+import com.famoney.api.common.cache.ReferenceCaches;
+import com.famoney.api.ledger.entity.Ledger;
+import com.famoney.api.ledger.repository.LedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Active ledgers' own fields (name, description, currency), cached per ledger version
+ * in the "ledgers" cache.
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerCache {
+
+    private final LedgerRepository ledgerRepository;
+
+    /**
+     * Get an active ledger, if it exists.
+     */
+    @Cacheable(cacheNames = ReferenceCaches.LEDGERS, key = ReferenceCaches.LEDGER_VERSION_KEY,
+            condition = ReferenceCaches.OUTSIDE_WRITE_TRANSACTION)
+    public Optional<CachedLedger> findLedger(String ledgerId) {
+        return ledgerRepository.findByIdAndDeletedAtIsNull(ledgerId).map(CachedLedger::from);
+    }
+
+    /**
+     * Snapshot of a ledger's own fields.
+     */
+    public record CachedLedger(String id, String name, String description, String currency,
+                               LocalDateTime createdAt) {
+
+        static CachedLedger from(Ledger ledger) {
+            return new CachedLedger(ledger.getId(), ledger.getName(), ledger.getDescription(),
+                    ledger.getCurrency(), ledger.getCreatedAt());
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.famoney.api.ledger.service;
 
-import com.famoney.api.common.exception.ForbiddenException;
 import com.famoney.api.common.exception.ResourceNotFoundException;
+import com.famoney.api.event.dto.LedgerEvent;
 import com.famoney.api.ledger.dto.CreateLedgerRequest;
 import com.famoney.api.ledger.dto.LedgerResponse;
 import com.famoney.api.ledger.dto.UpdateLedgerRequest;
@@ -10,6 +10,8 @@ import com.famoney.api.ledger.repository.LedgerRepository;
 import com.famoney.api.member.entity.Member;
 import com.famoney.api.member.entity.MemberRole;
 import com.famoney.api.member.repository.MemberRepository;
+import com.famoney.api.member.service.LedgerAccessCache;
+import com.famoney.api.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 
 /**
  * Service for ledger operations.
+ * Ledger membership and minimum roles are checked by {@code @RequiresLedgerRole} on the controller.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,6 +32,10 @@ public class LedgerService {
 
     private final LedgerRepository ledgerRepository;
     private final MemberRepository memberRepository;
+    private final LedgerAccessCache ledgerAccessCache;
+    private final LedgerCache ledgerCache;
+    private final LedgerVersionService ledgerVersionService;
+    private final OutboxService outboxService;
 
     /**
      * Create a new ledger.
@@ -61,26 +68,21 @@ public class LedgerService {
 
     /**
      * Get all ledgers where the user is a member.
+     * Ledger, role and member count are loaded in a single query.
      */
     public List<LedgerResponse> getMyLedgers(String userId) {
         log.debug("Getting ledgers for user: {}", userId);
 
-        List<String> ledgerIds = memberRepository.findLedgerIdsByUserId(userId);
-
-        return ledgerIds.stream()
-                .map(ledgerId -> {
-                    Ledger ledger = ledgerRepository.findByIdAndDeletedAtIsNull(ledgerId)
-                            .orElse(null);
-                    if (ledger == null) return null;
-
-                    Member member = memberRepository.findByUserIdAndLedgerId(userId, ledgerId)
-                            .orElse(null);
-                    if (member == null) return null;
-
-                    int memberCount = (int) memberRepository.countByLedgerId(ledgerId);
-                    return LedgerResponse.from(ledger, memberCount, member.getRole());
-                })
-                .filter(response -> response != null)
+        return ledgerRepository.findSummariesByUserId(userId).stream()
+                .map(row -> LedgerResponse.builder()
+                        .id(row.getId())
+                        .name(row.getName())
+                        .description(row.getDescription())
+                        .currency(row.getCurrency())
+                        .memberCount((int) row.getMemberCount())
+                        .myRole(row.getMyRole())
+                        .createdAt(row.getCreatedAt())
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -88,17 +90,21 @@ public class LedgerService {
      * Get a specific ledger by ID.
      * Only members can access the ledger.
      */
-    public LedgerResponse getLedger(String userId, String ledgerId) {
+    public LedgerResponse getLedger(String userId, String ledgerId, MemberRole role) {
         log.debug("Getting ledger: {} for user: {}", ledgerId, userId);
 
-        Ledger ledger = ledgerRepository.findByIdAndDeletedAtIsNull(ledgerId)
+        LedgerCache.CachedLedger ledger = ledgerCache.findLedger(ledgerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Ledger", "id", ledgerId));
 
-        Member member = memberRepository.findByUserIdAndLedgerId(userId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
-        int memberCount = (int) memberRepository.countByLedgerId(ledgerId);
-        return LedgerResponse.from(ledger, memberCount, member.getRole());
+        return LedgerResponse.builder()
+                .id(ledger.id())
+                .name(ledger.name())
+                .description(ledger.description())
+                .currency(ledger.currency())
+                .memberCount((int) memberRepository.countByLedgerId(ledgerId))
+                .myRole(role)
+                .createdAt(ledger.createdAt())
+                .build();
     }
 
     /**
@@ -106,19 +112,13 @@ public class LedgerService {
      * Only OWNER and ADMIN can update.
      */
     @Transactional
-    public LedgerResponse updateLedger(String userId, String ledgerId, UpdateLedgerRequest request) {
+    public LedgerResponse updateLedger(String userId, String ledgerId, MemberRole role,
+                                       UpdateLedgerRequest request) {
         log.info("Updating ledger: {} by user: {}", ledgerId, userId);
 
         Ledger ledger = ledgerRepository.findByIdAndDeletedAtIsNull(ledgerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Ledger", "id", ledgerId));
 
-        Member member = memberRepository.findByUserIdAndLedgerId(userId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
-        if (!member.canModifyLedger()) {
-            throw new ForbiddenException("Only OWNER and ADMIN can modify the ledger");
-        }
-
         // Partial update
         if (request.getName() != null) {
             ledger.setName(request.getName());
@@ -128,10 +128,11 @@ public class LedgerService {
         }
 
         ledger = ledgerRepository.save(ledger);
+        ledgerVersionService.bump(ledgerId);
         int memberCount = (int) memberRepository.countByLedgerId(ledgerId);
 
         log.info("Updated ledger: {}", ledgerId);
-        return LedgerResponse.from(ledger, memberCount, member.getRole());
+        return LedgerResponse.from(ledger, memberCount, role);
     }
 
     /**
@@ -145,15 +146,11 @@ public class LedgerService {
         Ledger ledger = ledgerRepository.findByIdAndDeletedAtIsNull(ledgerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Ledger", "id", ledgerId));
 
-        Member member = memberRepository.findByUserIdAndLedgerId(userId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
-        if (!member.isOwner()) {
-            throw new ForbiddenException("Only OWNER can delete the ledger");
-        }
-
         ledger.softDelete();
         ledgerRepository.save(ledger);
+        ledgerVersionService.bump(ledgerId);
+        ledgerAccessCache.invalidateLedger(ledgerId);
+        outboxService.append(LedgerEvent.of(LedgerEvent.Type.LEDGER_DELETED, ledgerId, ledgerId, userId, null));
 
         log.info("Deleted ledger: {}", ledgerId);
     }
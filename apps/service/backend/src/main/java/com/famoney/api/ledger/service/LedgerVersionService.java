@@ -0,0 +1,64 @@
+package com.famoney.api.ledger.service;
+
+import com.famoney.api.ledger.repository.LedgerRepository;
+import com.famoney.api.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Tracks the version of each ledger's content, used to validate conditional GETs and as the
+ * per-ledger change sequence for delta sync.
+ * Writers that change a ledger, its expenses, categories or members must call {@link #bump(String)}
+ * in the same transaction, so a new version is visible exactly when the change is, and stamp the
+ * changed rows with the returned version. The bump holds the ledger row lock until commit,
+ * so versions become visible in order.
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerVersionService {
+
+    private final LedgerRepository ledgerRepository;
+    private final MemberRepository memberRepository;
+
+    /**
+     * Get the current version of an active ledger, if it exists.
+     */
+    public Optional<LedgerRepository.LedgerVersion> findVersion(String ledgerId) {
+        return ledgerRepository.findVersionById(ledgerId);
+    }
+
+    /**
+     * Get the current version of a ledger, or 0 if it is missing or deleted.
+     */
+    public long currentVersion(String ledgerId) {
+        return findVersion(ledgerId)
+                .map(LedgerRepository.LedgerVersion::getVersion)
+                .orElse(0L);
+    }
+
+    /**
+     * Bump the version of a ledger.
+     *
+     * @return the new version, to stamp on the rows changed in this transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long bump(String ledgerId) {
+        ledgerRepository.incrementVersion(ledgerId, LocalDateTime.now());
+        return ledgerRepository.getVersionById(ledgerId);
+    }
+
+    /**
+     * Bump the version of every ledger of a user, after a change to what is shown for the user
+     * (name, profile image).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bumpForMember(String userId) {
+        ledgerRepository.incrementVersionForMember(userId, LocalDateTime.now());
+        memberRepository.stampChangeSeqForUser(userId);
+    }
+}
@@ -1,9 +1,13 @@
 package com.famoney.api.member.controller;
 
+import com.famoney.api.common.security.CurrentLedgerRole;
 import com.famoney.api.common.security.CustomUserDetails;
+import com.famoney.api.common.security.RequiresLedgerRole;
+import com.famoney.api.common.web.LedgerETag;
 import com.famoney.api.member.dto.InviteMemberRequest;
 import com.famoney.api.member.dto.MemberResponse;
 import com.famoney.api.member.dto.UpdateMemberRoleRequest;
+import com.famoney.api.member.entity.MemberRole;
 import com.famoney.api.member.service.MemberService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -35,9 +39,12 @@ public class MemberController {
      * Get all members of a ledger.
      */
     @GetMapping
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @LedgerETag
     @Operation(summary = "멤버 목록 조회", description = "원장의 모든 멤버를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "401", description = "인증 필요"),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
             @ApiResponse(responseCode = "404", description = "원장을 찾을 수 없음")
@@ -53,6 +60,7 @@ public class MemberController {
      * Add a member to a ledger.
      */
     @PostMapping("/invite")
+    @RequiresLedgerRole(value = MemberRole.ADMIN, message = "Only OWNER and ADMIN can add members")
     @Operation(summary = "멤버 초대", description = "원장에 새 멤버를 추가합니다. OWNER 또는 ADMIN만 가능합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "초대 성공"),
@@ -73,6 +81,7 @@ public class MemberController {
      * Update a member's role.
      */
     @PatchMapping("/{memberId}")
+    @RequiresLedgerRole(value = MemberRole.OWNER, message = "Only OWNER can change member roles")
     @Operation(summary = "멤버 역할 변경", description = "멤버의 역할을 변경합니다. OWNER만 가능합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "변경 성공"),
@@ -94,6 +103,7 @@ public class MemberController {
      * Remove a member from a ledger.
      */
     @DeleteMapping("/{memberId}")
+    @RequiresLedgerRole(MemberRole.VIEWER)
     @Operation(summary = "멤버 제거", description = "멤버를 원장에서 제거합니다. OWNER/ADMIN이 제거하거나, 본인이 탈퇴할 수 있습니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "제거 성공"),
@@ -105,8 +115,9 @@ public class MemberController {
     public ResponseEntity<Void> removeMember(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable String ledgerId,
+            @CurrentLedgerRole MemberRole role,
             @PathVariable String memberId) {
-        memberService.removeMember(userDetails.getId(), ledgerId, memberId);
+        memberService.removeMember(userDetails.getId(), ledgerId, role, memberId);
         return ResponseEntity.noContent().build();
     }
 }
@@ -40,6 +40,12 @@ public class Member {
     @Column(name = "invited_by", length = 36)
     private String invitedBy;
 
+    /**
+     * Ledger version of the last change to this row, for delta sync.
+     */
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
     @PrePersist
     protected void onCreate() {
         joinedAt = LocalDateTime.now();
@@ -3,10 +3,13 @@ package com.famoney.api.member.repository;
 import com.famoney.api.member.entity.Member;
 import com.famoney.api.member.entity.MemberRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +21,9 @@ public interface MemberRepository extends JpaRepository<Member, String> {
 
     /**
      * Find member by user ID and ledger ID.
+     * Read from the primary when called outside a transaction: the result gates access and is cached.
      */
+    @Transactional
     Optional<Member> findByUserIdAndLedgerId(String userId, String ledgerId);
 
     /**
@@ -26,12 +31,50 @@ public interface MemberRepository extends JpaRepository<Member, String> {
      */
     List<Member> findByLedgerId(String ledgerId);
 
+    /**
+     * Find all members of a ledger with their users' display columns, in one query.
+     */
+    @Query("SELECT m.id AS id, m.role AS role, m.joinedAt AS joinedAt, u.id AS userId, u.email AS email, " +
+           "u.name AS name, u.profileImage AS profileImage " +
+           "FROM Member m JOIN User u ON u.id = m.userId " +
+           "WHERE m.ledgerId = :ledgerId " +
+           "ORDER BY m.joinedAt ASC")
+    List<MemberSummary> findSummariesByLedgerId(@Param("ledgerId") String ledgerId);
+
     /**
      * Find all ledger IDs where user is a member.
      */
     @Query("SELECT m.ledgerId FROM Member m WHERE m.userId = :userId")
     List<String> findLedgerIdsByUserId(@Param("userId") String userId);
 
+    /**
+     * Find the user IDs of all members of a ledger.
+     */
+    @Query("SELECT m.userId FROM Member m WHERE m.ledgerId = :ledgerId")
+    List<String> findUserIdsByLedgerId(@Param("ledgerId") String ledgerId);
+
+    /**
+     * Find members of a ledger changed after a change sequence, up to and including another,
+     * with their users' display columns.
+     */
+    @Query("SELECT m.id AS id, m.role AS role, m.joinedAt AS joinedAt, u.id AS userId, u.email AS email, " +
+           "u.name AS name, u.profileImage AS profileImage " +
+           "FROM Member m JOIN User u ON u.id = m.userId " +
+           "WHERE m.ledgerId = :ledgerId AND m.changeSeq > :afterSeq AND m.changeSeq <= :upToSeq " +
+           "ORDER BY m.joinedAt ASC")
+    List<MemberSummary> findSummariesChangedBetween(@Param("ledgerId") String ledgerId,
+                                                    @Param("afterSeq") long afterSeq,
+                                                    @Param("upToSeq") long upToSeq);
+
+    /**
+     * Stamp every membership of a user with its ledger's current version,
+     * after a change to what is shown for the user.
+     */
+    @Modifying
+    @Query("UPDATE Member m SET m.changeSeq = (SELECT l.version FROM Ledger l WHERE l.id = m.ledgerId) " +
+           "WHERE m.userId = :userId")
+    int stampChangeSeqForUser(@Param("userId") String userId);
+
     /**
      * Check if user is a member of the ledger.
      */
@@ -51,4 +94,17 @@ public interface MemberRepository extends JpaRepository<Member, String> {
      * Delete all members of a ledger.
      */
     void deleteByLedgerId(String ledgerId);
+
+    /**
+     * Member row with the user columns shown in the member list.
+     */
+    interface MemberSummary {
+        String getId();
+        MemberRole getRole();
+        LocalDateTime getJoinedAt();
+        String getUserId();
+        String getEmail();
+        String getName();
+        String getProfileImage();
+    }
 }
@@ -0,0 +1,167 @@
+package com.famoney.api.member.service;
+
+import com.famoney.api.common.cache.CacheEvictions;
+import com.famoney.api.common.exception.ForbiddenException;
+import com.famoney.api.event.dto.LedgerEvent;
+import com.famoney.api.ledger.service.LedgerVersionService;
+import com.famoney.api.member.entity.Member;
+import com.famoney.api.member.entity.MemberRole;
+import com.famoney.api.member.repository.MemberRepository;
+import com.famoney.api.outbox.service.OutboxBroadcastHandler;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-process cache of ledger membership: (userId, ledgerId) to the caller's role.
+ * Entries expire after a TTL and the cache is bounded; non-membership is cached too.
+ * Writers that change membership must call one of the invalidate methods, which evict on this instance.
+ * Other instances evict when they read the change's member or ledger deletion event from the outbox
+ * ({@link com.famoney.api.outbox.job.OutboxBroadcastPoller}), so they lag by about one poll interval;
+ * the TTL bounds the lag if the outbox cannot be read.
+ * Hit/miss counts are published as the "ledgerAccess" cache metrics.
+ */
+@Slf4j
+@Component
+public class LedgerAccessCache implements OutboxBroadcastHandler {
+
+    private static final String CACHE_NAME = "ledgerAccess";
+
+    private final MemberRepository memberRepository;
+    private final LedgerVersionService ledgerVersionService;
+    private final Cache<Key, Access> cache;
+    private final Map<String, Follow> followed = new ConcurrentHashMap<>();
+
+    public LedgerAccessCache(
+            MemberRepository memberRepository,
+            LedgerVersionService ledgerVersionService,
+            MeterRegistry meterRegistry,
+            @Value("${ledger-access.cache.ttl:60s}") Duration ttl,
+            @Value("${ledger-access.cache.max-size:10000}") long maxSize
+    ) {
+        this.memberRepository = memberRepository;
+        this.ledgerVersionService = ledgerVersionService;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get the user's role in the ledger, if the user is a member.
+     */
+    public Optional<MemberRole> findRole(String userId, String ledgerId) {
+        Key key = new Key(userId, ledgerId);
+        Access access = cache.get(key, this::load);
+        if (followed.get(ledgerId) != access.follow()) {
+            // Membership changed or the ledger was unfollowed since the load
+            cache.asMap().remove(key, access);
+            access = cache.get(key, this::load);
+        }
+        return access.role();
+    }
+
+    /**
+     * Get the user's role in the ledger.
+     *
+     * @throws ForbiddenException if the user is not a member
+     */
+    public MemberRole requireRole(String userId, String ledgerId) {
+        return findRole(userId, ledgerId)
+                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
+    }
+
+    /**
+     * Invalidate the cached membership of one user in a ledger.
+     * When called inside a transaction, the entry is evicted again after commit so a
+     * concurrent reader cannot re-cache the pre-commit value.
+     */
+    public void invalidate(String userId, String ledgerId) {
+        Key key = new Key(userId, ledgerId);
+        CacheEvictions.evictNowAndAfterCommit(() -> cache.invalidate(key));
+    }
+
+    /**
+     * Invalidate all cached memberships of a ledger.
+     */
+    public void invalidateLedger(String ledgerId) {
+        CacheEvictions.evictNowAndAfterCommit(() ->
+                cache.asMap().keySet().removeIf(key -> key.ledgerId().equals(ledgerId)));
+    }
+
+    /**
+     * Ledgers with cached memberships, each with the version whose events were handled so far.
+     * Ledgers without cached memberships are no longer followed.
+     */
+    @Override
+    public Map<String, Long> followedLedgers() {
+        Set<String> cachedLedgers = cache.asMap().keySet().stream()
+                .map(Key::ledgerId)
+                .collect(Collectors.toSet());
+        followed.keySet().retainAll(cachedLedgers);
+        return followed.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().version));
+    }
+
+    /**
+     * Evict a ledger's cached memberships on a member change or ledger deletion made on any instance.
+     * The ledger's follow is replaced as well, so a membership loaded concurrently is reloaded on its next read.
+     */
+    @Override
+    public void handle(LedgerEvent event) {
+        String ledgerId = event.getLedgerId();
+        long version = event.getLedgerVersion();
+        switch (event.getType()) {
+            case MEMBER_ADDED, MEMBER_UPDATED, MEMBER_REMOVED, LEDGER_DELETED -> {
+                followed.computeIfPresent(ledgerId, (id, follow) -> new Follow(Math.max(follow.version, version)));
+                cache.asMap().keySet().removeIf(key -> key.ledgerId().equals(ledgerId));
+            }
+            default -> followed.computeIfPresent(ledgerId, (id, follow) -> {
+                follow.version = Math.max(follow.version, version);
+                return follow;
+            });
+        }
+    }
+
+    private Access load(Key key) {
+        // Follow from the version before the lookup, so a change the lookup misses is read from the outbox
+        Follow follow = followed.computeIfAbsent(key.ledgerId(),
+                ledgerId -> new Follow(ledgerVersionService.currentVersion(ledgerId)));
+        return new Access(memberRepository.findByUserIdAndLedgerId(key.userId(), key.ledgerId())
+                .map(Member::getRole), follow);
+    }
+
+    private record Key(String userId, String ledgerId) {
+    }
+
+    /**
+     * A cached role and the follow of its ledger at load time.
+     */
+    private record Access(Optional<MemberRole> role, Follow follow) {
+    }
+
+    /**
+     * A followed ledger; replaced, not reused, when it is followed again or its membership changes.
+     */
+    private static final class Follow {
+
+        private volatile long version;
+
+        private Follow(long version) {
+            this.version = version;
+        }
+    }
+}
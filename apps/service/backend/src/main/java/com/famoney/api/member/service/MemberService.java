@@ -3,14 +3,20 @@ package com.famoney.api.member.service;
 import com.famoney.api.common.exception.BadRequestException;
 import com.famoney.api.common.exception.ForbiddenException;
 import com.famoney.api.common.exception.ResourceNotFoundException;
+import com.famoney.api.event.dto.LedgerEvent;
 import com.famoney.api.ledger.entity.Ledger;
 import com.famoney.api.ledger.repository.LedgerRepository;
+import com.famoney.api.ledger.service.LedgerVersionService;
 import com.famoney.api.member.dto.InviteMemberRequest;
 import com.famoney.api.member.dto.MemberResponse;
 import com.famoney.api.member.dto.UpdateMemberRoleRequest;
 import com.famoney.api.member.entity.Member;
 import com.famoney.api.member.entity.MemberRole;
 import com.famoney.api.member.repository.MemberRepository;
+import com.famoney.api.outbox.service.OutboxService;
+import com.famoney.api.sync.entity.LedgerTombstone;
+import com.famoney.api.sync.entity.TombstoneType;
+import com.famoney.api.sync.repository.LedgerTombstoneRepository;
 import com.famoney.api.user.entity.User;
 import com.famoney.api.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,12 +25,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service for member operations.
+ * Ledger membership and minimum roles are checked by {@code @RequiresLedgerRole} on the controller.
  */
 @Service
 @RequiredArgsConstructor
@@ -33,8 +38,12 @@ import java.util.stream.Collectors;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final LedgerAccessCache ledgerAccessCache;
     private final LedgerRepository ledgerRepository;
     private final UserRepository userRepository;
+    private final LedgerVersionService ledgerVersionService;
+    private final OutboxService outboxService;
+    private final LedgerTombstoneRepository ledgerTombstoneRepository;
 
     /**
      * Get all members of a ledger.
@@ -45,23 +54,18 @@ public class MemberService {
         // Verify ledger exists
         verifyLedgerExists(ledgerId);
 
-        // Verify requester is a member
-        verifyMembership(userId, ledgerId);
-
-        List<Member> members = memberRepository.findByLedgerId(ledgerId);
-
-        // Get all users for the members
-        List<String> userIds = members.stream()
-                .map(Member::getUserId)
-                .collect(Collectors.toList());
-        Map<String, User> usersById = userRepository.findAllById(userIds).stream()
-                .collect(Collectors.toMap(User::getId, Function.identity()));
-
-        return members.stream()
-                .map(member -> {
-                    User user = usersById.get(member.getUserId());
-                    return MemberResponse.from(member, user);
-                })
+        return memberRepository.findSummariesByLedgerId(ledgerId).stream()
+                .map(row -> MemberResponse.builder()
+                        .id(row.getId())
+                        .user(MemberResponse.UserSummary.builder()
+                                .id(row.getUserId())
+                                .email(row.getEmail())
+                                .name(row.getName())
+                                .profileImage(row.getProfileImage())
+                                .build())
+                        .role(row.getRole())
+                        .joinedAt(row.getJoinedAt())
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -76,14 +80,6 @@ public class MemberService {
         // Verify ledger exists
         verifyLedgerExists(ledgerId);
 
-        // Verify requester has permission
-        Member requester = memberRepository.findByUserIdAndLedgerId(requesterId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
-        if (!requester.canManageMembers()) {
-            throw new ForbiddenException("Only OWNER and ADMIN can add members");
-        }
-
         // Cannot add as OWNER (only one OWNER allowed)
         if (request.getRole() == MemberRole.OWNER) {
             throw new BadRequestException("Cannot add member as OWNER");
@@ -104,11 +100,16 @@ public class MemberService {
                 .ledgerId(ledgerId)
                 .role(request.getRole())
                 .invitedBy(requesterId)
+                .changeSeq(ledgerVersionService.bump(ledgerId))
                 .build();
         member = memberRepository.save(member);
+        ledgerAccessCache.invalidate(invitedUser.getId(), ledgerId);
 
         log.info("Added member {} to ledger: {}", invitedUser.getId(), ledgerId);
-        return MemberResponse.from(member, invitedUser);
+        MemberResponse response = MemberResponse.from(member, invitedUser);
+        outboxService.append(LedgerEvent.of(
+                LedgerEvent.Type.MEMBER_ADDED, ledgerId, member.getId(), requesterId, response));
+        return response;
     }
 
     /**
@@ -122,14 +123,6 @@ public class MemberService {
         // Verify ledger exists
         verifyLedgerExists(ledgerId);
 
-        // Verify requester is OWNER
-        Member requester = memberRepository.findByUserIdAndLedgerId(requesterId, ledgerId)
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
-        if (!requester.isOwner()) {
-            throw new ForbiddenException("Only OWNER can change member roles");
-        }
-
         // Find target member
         Member targetMember = memberRepository.findById(memberId)
                 .filter(m -> m.getLedgerId().equals(ledgerId))
@@ -148,13 +141,18 @@ public class MemberService {
         // Update role
         final String targetUserId = targetMember.getUserId();
         targetMember.setRole(request.getRole());
+        targetMember.setChangeSeq(ledgerVersionService.bump(ledgerId));
         targetMember = memberRepository.save(targetMember);
+        ledgerAccessCache.invalidate(targetUserId, ledgerId);
 
         User user = userRepository.findById(targetUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", targetUserId));
 
         log.info("Updated role for member: {} to {}", memberId, request.getRole());
-        return MemberResponse.from(targetMember, user);
+        MemberResponse response = MemberResponse.from(targetMember, user);
+        outboxService.append(LedgerEvent.of(
+                LedgerEvent.Type.MEMBER_UPDATED, ledgerId, memberId, requesterId, response));
+        return response;
     }
 
     /**
@@ -162,7 +160,7 @@ public class MemberService {
      * OWNER and ADMIN can remove members. Members can remove themselves.
      */
     @Transactional
-    public void removeMember(String requesterId, String ledgerId, String memberId) {
+    public void removeMember(String requesterId, String ledgerId, MemberRole requesterRole, String memberId) {
         log.info("Removing member: {} from ledger: {} by user: {}", memberId, ledgerId, requesterId);
 
         // Verify ledger exists
@@ -183,15 +181,28 @@ public class MemberService {
 
         if (!isSelfRemoval) {
             // Verify requester has permission to remove others
-            Member requester = memberRepository.findByUserIdAndLedgerId(requesterId, ledgerId)
-                    .orElseThrow(() -> new ForbiddenException("You are not a member of this ledger"));
-
-            if (!requester.canManageMembers()) {
+            if (!requesterRole.canManageMembers()) {
                 throw new ForbiddenException("Only OWNER and ADMIN can remove members");
             }
         }
 
         memberRepository.delete(targetMember);
+        ledgerAccessCache.invalidate(targetMember.getUserId(), ledgerId);
+        ledgerTombstoneRepository.save(LedgerTombstone.builder()
+                .entityId(memberId)
+                .ledgerId(ledgerId)
+                .entityType(TombstoneType.MEMBER)
+                .changeSeq(ledgerVersionService.bump(ledgerId))
+                .build());
+        // Carries the removed user, so every instance can close that user's live feed connections
+        MemberResponse removed = MemberResponse.builder()
+                .id(memberId)
+                .user(MemberResponse.UserSummary.builder().id(targetMember.getUserId()).build())
+                .role(targetMember.getRole())
+                .joinedAt(targetMember.getJoinedAt())
+                .build();
+        outboxService.append(LedgerEvent.of(
+                LedgerEvent.Type.MEMBER_REMOVED, ledgerId, memberId, requesterId, removed));
         log.info("Removed member: {} from ledger: {}", memberId, ledgerId);
     }
 
@@ -199,10 +210,4 @@ public class MemberService {
         ledgerRepository.findByIdAndDeletedAtIsNull(ledgerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Ledger", "id", ledgerId));
     }
-
-    private void verifyMembership(String userId, String ledgerId) {
-        if (!memberRepository.existsByUserIdAndLedgerId(userId, ledgerId)) {
-            throw new ForbiddenException("You are not a member of this ledger");
-        }
-    }
 }
@@ -0,0 +1,61 @@
+package com.famoney.api.outbox.entity;
+
+import com.famoney.api.event.dto.LedgerEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxEvent entity: a ledger event recorded with the change that caused it.
+ * Pending until the outbox poller dispatches it, then kept for the retention period.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "ledger_id", nullable = false, length = 36)
+    private String ledgerId;
+
+    /**
+     * Ledger version of the transaction that wrote the event; a ledger's events commit in this order.
+     */
+    @Column(name = "ledger_version", nullable = false)
+    private long ledgerVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private LedgerEvent.Type eventType;
+
+    @Column(name = "resource_id", length = 36)
+    private String resourceId;
+
+    @Column(name = "actor_id", length = 36)
+    private String actorId;
+
+    /**
+     * The event data as JSON, or null.
+     */
+    @Column(length = 8000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.famoney.api.outbox.job;
+
+import com.famoney.api.outbox.entity.OutboxEvent;
+import com.famoney.api.outbox.repository.OutboxEventRepository;
+import com.famoney.api.outbox.service.OutboxBroadcastHandler;
+import com.famoney.api.outbox.service.OutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads outbox events on every instance and hands them to each {@link OutboxBroadcastHandler}.
+ * A ledger's versions commit in order (the bump holds the ledger row lock), so reading past the
+ * version a handler has handled never skips a later commit. Events must be read within outbox.retention,
+ * after which they are pruned.
+ */
+@Slf4j
+@Component
+public class OutboxBroadcastPoller {
+
+    /**
+     * Ledgers read per query.
+     */
+    private static final int LEDGER_CHUNK_SIZE = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxService outboxService;
+    private final List<OutboxBroadcastHandler> handlers;
+    private final Duration retention;
+
+    public OutboxBroadcastPoller(OutboxEventRepository outboxEventRepository,
+                                 OutboxService outboxService,
+                                 List<OutboxBroadcastHandler> handlers,
+                                 @Value("${outbox.retention:10m}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxService = outboxService;
+        this.handlers = handlers;
+        this.retention = retention;
+    }
+
+    /**
+     * Hand new events of the followed ledgers to each handler.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:500ms}")
+    public void poll() {
+        for (OutboxBroadcastHandler handler : handlers) {
+            try {
+                poll(handler);
+            } catch (Exception ex) {
+                // The handler's versions did not move; the events are read again on the next poll
+                log.error("Failed to read outbox events for {}", handler.getClass().getSimpleName(), ex);
+            }
+        }
+    }
+
+    /**
+     * Delete events older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${outbox.prune-interval:1m}")
+    public void prune() {
+        try {
+            int deleted = outboxEventRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+            if (deleted > 0) {
+                log.debug("Pruned {} outbox events", deleted);
+            }
+        } catch (Exception ex) {
+            log.error("Failed to prune outbox events", ex);
+        }
+    }
+
+    private void poll(OutboxBroadcastHandler handler) {
+        Map<String, Long> followed = handler.followedLedgers();
+        List<String> ledgerIds = new ArrayList<>(followed.keySet());
+        for (int from = 0; from < ledgerIds.size(); from += LEDGER_CHUNK_SIZE) {
+            List<String> chunk = ledgerIds.subList(from, Math.min(from + LEDGER_CHUNK_SIZE, ledgerIds.size()));
+            long afterVersion = chunk.stream().mapToLong(followed::get).min().orElse(0);
+            for (OutboxEvent outboxEvent : outboxEventRepository.findByLedgersAfterVersion(chunk, afterVersion)) {
+                if (outboxEvent.getLedgerVersion() > followed.get(outboxEvent.getLedgerId())) {
+                    handler.handle(outboxService.toLedgerEvent(outboxEvent));
+                }
+            }
+        }
+    }
+}
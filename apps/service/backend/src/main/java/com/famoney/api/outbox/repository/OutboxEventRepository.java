@@ -0,0 +1,33 @@
+package com.famoney.api.outbox.repository;
+
+import com.famoney.api.outbox.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Find the events of some ledgers written after a ledger version, in commit order per ledger.
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.ledgerId IN :ledgerIds AND e.ledgerVersion > :afterVersion " +
+            "ORDER BY e.ledgerId, e.ledgerVersion, e.id")
+    List<OutboxEvent> findByLedgersAfterVersion(@Param("ledgerIds") Collection<String> ledgerIds,
+                                                @Param("afterVersion") long afterVersion);
+
+    /**
+     * Delete events created before a time.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxEvent e WHERE e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,23 @@
+package com.famoney.api.outbox.service;
+
+import com.famoney.api.event.dto.LedgerEvent;
+
+import java.util.Map;
+
+/**
+ * Consumer of ledger events on every instance, for state held by one process such as live feed
+ * connections. Each instance reads the events of the ledgers its handlers follow, in ledger version
+ * order, from the outbox rows kept for outbox.retention.
+ */
+public interface OutboxBroadcastHandler {
+
+    /**
+     * Ledgers to read events for, each mapped to the ledger version already handled.
+     */
+    Map<String, Long> followedLedgers();
+
+    /**
+     * Handle an event written after the ledger's version in {@link #followedLedgers()}.
+     */
+    void handle(LedgerEvent event);
+}
@@ -0,0 +1,106 @@
+package com.famoney.api.outbox.service;
+
+import com.famoney.api.event.dto.LedgerEvent;
+import com.famoney.api.ledger.repository.LedgerRepository;
+import com.famoney.api.outbox.entity.OutboxEvent;
+import com.famoney.api.outbox.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Records ledger events in the outbox_events table.
+ * Writers call {@link #append(LedgerEvent)} in the transaction that makes the change,
+ * so an event exists exactly when the change is committed; {@code OutboxBroadcastPoller} hands it to
+ * every instance.
+ * The writer must have bumped the ledger version in that transaction: events are stamped with it,
+ * which orders a ledger's events by commit.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final LedgerRepository ledgerRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Record an event.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(LedgerEvent event) {
+        outboxEventRepository.save(toEntity(event, ledgerRepository.getVersionById(event.getLedgerId())));
+    }
+
+    /**
+     * Record events; inserts go out in JDBC batches on flush.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<LedgerEvent> events) {
+        Map<String, Long> versions = new HashMap<>();
+        outboxEventRepository.saveAll(events.stream()
+                .map(event -> toEntity(event,
+                        versions.computeIfAbsent(event.getLedgerId(), ledgerRepository::getVersionById)))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Read a stored event back as a ledger event.
+     */
+    public LedgerEvent toLedgerEvent(OutboxEvent outboxEvent) {
+        return LedgerEvent.builder()
+                .type(outboxEvent.getEventType())
+                .ledgerId(outboxEvent.getLedgerId())
+                .resourceId(outboxEvent.getResourceId())
+                .actorId(outboxEvent.getActorId())
+                .data(readPayload(outboxEvent))
+                .occurredAt(outboxEvent.getCreatedAt())
+                .ledgerVersion(outboxEvent.getLedgerVersion())
+                .build();
+    }
+
+    private OutboxEvent toEntity(LedgerEvent event, long ledgerVersion) {
+        return OutboxEvent.builder()
+                .ledgerId(event.getLedgerId())
+                .ledgerVersion(ledgerVersion)
+                .eventType(event.getType())
+                .resourceId(event.getResourceId())
+                .actorId(event.getActorId())
+                .payload(toJson(event.getData()))
+                .createdAt(event.getOccurredAt())
+                .build();
+    }
+
+    private String toJson(Object data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox event data", e);
+        }
+    }
+
+    private Object readPayload(OutboxEvent outboxEvent) {
+        if (outboxEvent.getPayload() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(outboxEvent.getPayload());
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable payload for outbox event: {}", outboxEvent.getId());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.famoney.api.settlement.controller;
+
+import com.famoney.api.common.security.CustomUserDetails;
+import com.famoney.api.common.security.RequiresLedgerRole;
+import com.famoney.api.member.entity.MemberRole;
+import com.famoney.api.settlement.dto.SettlementResponse;
+import com.famoney.api.settlement.service.SettlementService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST Controller for ledger settlement endpoints.
+ */
+@RestController
+@RequestMapping("/api/v1/ledgers/{ledgerId}/settlement")
+@RequiredArgsConstructor
+@Tag(name = "Settlement", description = "Ledger settlement API")
+@SecurityRequirement(name = "bearerAuth")
+public class SettlementController {
+
+    private final SettlementService settlementService;
+
+    /**
+     * Get the settlement of a ledger for a date range.
+     */
+    @GetMapping
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @Operation(summary = "원장 정산 조회",
+            description = "기간 내 지출을 멤버별로 집계해 균등 분담 기준으로 누가 누구에게 얼마를 보내야 하는지 계산합니다. " +
+                    "기본 기간은 이번 달입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "원장을 찾을 수 없음")
+    })
+    public ResponseEntity<SettlementResponse> getSettlement(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId,
+            @Parameter(description = "시작 날짜 (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        SettlementResponse response = settlementService.getSettlement(
+                userDetails.getId(), ledgerId, startDate, endDate);
+        return ResponseEntity.ok(response);
+    }
+}
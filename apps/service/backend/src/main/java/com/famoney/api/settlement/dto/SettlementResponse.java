@@ -0,0 +1,61 @@
+package com.famoney.api.settlement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response DTO for a ledger settlement: each member's balance and the transfers that settle them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementResponse {
+
+    private String ledgerId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String currency;
+    private BigDecimal totalAmount;
+    private long expenseCount;
+    private List<MemberBalance> members;
+    private List<Transfer> transfers;
+
+    /**
+     * What a member paid, their equal share, and the difference (positive when owed money).
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MemberBalance {
+        private String userId;
+        private String displayName;
+        private String profileImage;
+        private BigDecimal paidAmount;
+        private BigDecimal shareAmount;
+        private BigDecimal balance;
+        private long expenseCount;
+    }
+
+    /**
+     * A payment from one member to another.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Transfer {
+        private String fromUserId;
+        private String fromDisplayName;
+        private String toUserId;
+        private String toDisplayName;
+        private BigDecimal amount;
+    }
+}
@@ -0,0 +1,47 @@
+package com.famoney.api.settlement.repository;
+
+import com.famoney.api.expense.entity.Expense;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for settlement aggregates.
+ * Paid totals are summed per member in the database and returned in minor currency units.
+ */
+@Repository
+public interface SettlementRepository extends org.springframework.data.repository.Repository<Expense, String> {
+
+    /**
+     * Paid totals per expense creator for a date range, in minor units ({@code unitScale} = 10^fraction digits).
+     * Served by the (ledger_id, deleted_at, expense_date) index.
+     */
+    String PAID_TOTALS_SQL =
+            "SELECT e.created_by AS userId, CAST(ROUND(SUM(e.amount) * :unitScale) AS BIGINT) AS paidMinor, " +
+            "COUNT(*) AS expenseCount FROM expenses e " +
+            "WHERE e.ledger_id = :ledgerId AND e.deleted_at IS NULL " +
+            "AND e.expense_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY e.created_by";
+
+    /**
+     * Paid totals per member who created expenses in the date range.
+     */
+    @Query(value = PAID_TOTALS_SQL, nativeQuery = true)
+    List<PaidTotal> sumPaidByMember(
+            @Param("ledgerId") String ledgerId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("unitScale") long unitScale);
+
+    /**
+     * Amount paid by a member, in minor units.
+     */
+    interface PaidTotal {
+        String getUserId();
+        long getPaidMinor();
+        long getExpenseCount();
+    }
+}
@@ -0,0 +1,157 @@
+package com.famoney.api.settlement.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes who owes whom from amounts paid, in long minor currency units.
+ * <p>
+ * Costs are split equally; balances are matched greedily, always settling the largest debtor
+ * against the largest creditor. This yields at most {@code n - 1} transfers and usually close to
+ * the minimum, which is NP-hard to find exactly. Runs in O(n log n) without boxing.
+ */
+public final class SettlementCalculator {
+
+    private SettlementCalculator() {
+    }
+
+    /**
+     * Equal shares of a total. The remainder units go to the first participants,
+     * so the shares always add up to the total.
+     */
+    public static long[] shares(long total, int participants) {
+        long[] shares = new long[participants];
+        if (participants == 0) {
+            return shares;
+        }
+        long base = Math.floorDiv(total, participants);
+        long remainder = Math.floorMod(total, participants);
+        for (int i = 0; i < participants; i++) {
+            shares[i] = base + (i < remainder ? 1 : 0);
+        }
+        return shares;
+    }
+
+    /**
+     * Net balance of each participant: paid minus share. Positive balances are owed money.
+     */
+    public static long[] balances(long[] paid) {
+        long total = 0;
+        for (long amount : paid) {
+            total = Math.addExact(total, amount);
+        }
+        long[] shares = shares(total, paid.length);
+        long[] balances = new long[paid.length];
+        for (int i = 0; i < paid.length; i++) {
+            balances[i] = paid[i] - shares[i];
+        }
+        return balances;
+    }
+
+    /**
+     * Transfers that bring every balance to zero. Balances must add up to zero.
+     * Ties are broken by the lower index, so the result is deterministic.
+     */
+    public static List<Transfer> settle(long[] balances) {
+        long[] remaining = new long[balances.length];
+        IndexHeap creditors = new IndexHeap(remaining);
+        IndexHeap debtors = new IndexHeap(remaining);
+        long sum = 0;
+        for (int i = 0; i < balances.length; i++) {
+            sum = Math.addExact(sum, balances[i]);
+            remaining[i] = Math.abs(balances[i]);
+            if (balances[i] > 0) {
+                creditors.push(i);
+            } else if (balances[i] < 0) {
+                debtors.push(i);
+            }
+        }
+        if (sum != 0) {
+            throw new IllegalArgumentException("Balances must add up to zero, got " + sum);
+        }
+
+        List<Transfer> transfers = new ArrayList<>(Math.max(0, balances.length - 1));
+        while (!creditors.isEmpty() && !debtors.isEmpty()) {
+            int creditor = creditors.pop();
+            int debtor = debtors.pop();
+            long amount = Math.min(remaining[creditor], remaining[debtor]);
+            transfers.add(new Transfer(debtor, creditor, amount));
+            remaining[creditor] -= amount;
+            remaining[debtor] -= amount;
+            if (remaining[creditor] > 0) {
+                creditors.push(creditor);
+            }
+            if (remaining[debtor] > 0) {
+                debtors.push(debtor);
+            }
+        }
+        return transfers;
+    }
+
+    /**
+     * A payment from one participant to another, by participant index.
+     */
+    public record Transfer(int from, int to, long amount) {
+    }
+
+    /**
+     * Binary max-heap of participant indices keyed by a shared amounts array.
+     */
+    private static final class IndexHeap {
+
+        private final long[] keys;
+        private final int[] heap;
+        private int size;
+
+        IndexHeap(long[] keys) {
+            this.keys = keys;
+            this.heap = new int[keys.length];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int index) {
+            int i = size++;
+            heap[i] = index;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!higher(heap[i], heap[parent])) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        int pop() {
+            int top = heap[0];
+            heap[0] = heap[--size];
+            int i = 0;
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int child = left + 1 < size && higher(heap[left + 1], heap[left]) ? left + 1 : left;
+                if (!higher(heap[child], heap[i])) {
+                    break;
+                }
+                swap(i, child);
+                i = child;
+            }
+            return top;
+        }
+
+        private boolean higher(int a, int b) {
+            return keys[a] > keys[b] || (keys[a] == keys[b] && a < b);
+        }
+
+        private void swap(int i, int j) {
+            int tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+    }
+}
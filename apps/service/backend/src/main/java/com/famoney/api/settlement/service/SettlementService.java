@@ -0,0 +1,134 @@
+package com.famoney.api.settlement.service;
+
+import com.famoney.api.common.exception.BadRequestException;
+import com.famoney.api.common.exception.ResourceNotFoundException;
+import com.famoney.api.ledger.service.LedgerCache;
+import com.famoney.api.member.repository.MemberRepository;
+import com.famoney.api.settlement.dto.SettlementResponse;
+import com.famoney.api.settlement.repository.SettlementRepository;
+import com.famoney.api.user.service.UserDisplayCache;
+import com.famoney.api.user.service.UserDisplayCache.UserDisplay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Service for ledger settlement (who owes whom).
+ * Paid totals are aggregated in the database in minor units; balances and transfers are computed
+ * on longs by {@link SettlementCalculator}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SettlementService {
+
+    /**
+     * Fraction digits used when the ledger currency is not an ISO 4217 code.
+     */
+    private static final int DEFAULT_FRACTION_DIGITS = 2;
+
+    private final SettlementRepository settlementRepository;
+    private final MemberRepository memberRepository;
+    private final LedgerCache ledgerCache;
+    private final UserDisplayCache userDisplayCache;
+
+    /**
+     * Settle a ledger's expenses for a date range, splitting costs equally.
+     * Participants are the current members plus anyone else who paid in the range.
+     * Defaults to the current calendar month up to today.
+     */
+    public SettlementResponse getSettlement(String userId, String ledgerId, LocalDate startDate, LocalDate endDate) {
+        log.debug("Getting settlement for ledger: {} by user: {}", ledgerId, userId);
+
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.withDayOfMonth(1);
+        if (start.isAfter(end)) {
+            throw new BadRequestException("startDate must be on or before endDate");
+        }
+
+        String currency = ledgerCache.findLedger(ledgerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Ledger", "id", ledgerId))
+                .currency();
+        int fractionDigits = fractionDigits(currency);
+
+        Map<String, SettlementRepository.PaidTotal> paidByUser = settlementRepository
+                .sumPaidByMember(ledgerId, start, end, BigDecimal.TEN.pow(fractionDigits).longValueExact())
+                .stream()
+                .collect(Collectors.toMap(SettlementRepository.PaidTotal::getUserId, row -> row));
+
+        // Sorted, so shares and transfers are stable for the same data
+        TreeSet<String> participantSet = new TreeSet<>(memberRepository.findUserIdsByLedgerId(ledgerId));
+        participantSet.addAll(paidByUser.keySet());
+        List<String> participants = List.copyOf(participantSet);
+
+        long[] paid = new long[participants.size()];
+        long total = 0;
+        long expenseCount = 0;
+        for (int i = 0; i < paid.length; i++) {
+            SettlementRepository.PaidTotal row = paidByUser.get(participants.get(i));
+            paid[i] = row != null ? row.getPaidMinor() : 0;
+            total += paid[i];
+            expenseCount += row != null ? row.getExpenseCount() : 0;
+        }
+        long[] balances = SettlementCalculator.balances(paid);
+        List<SettlementCalculator.Transfer> transfers = SettlementCalculator.settle(balances);
+
+        Map<String, UserDisplay> userMap = userDisplayCache.getAll(ledgerId, participants);
+
+        return SettlementResponse.builder()
+                .ledgerId(ledgerId)
+                .startDate(start)
+                .endDate(end)
+                .currency(currency)
+                .totalAmount(BigDecimal.valueOf(total, fractionDigits))
+                .expenseCount(expenseCount)
+                .members(IntStream.range(0, paid.length)
+                        .mapToObj(i -> {
+                            UserDisplay user = userMap.get(participants.get(i));
+                            SettlementRepository.PaidTotal row = paidByUser.get(participants.get(i));
+                            return SettlementResponse.MemberBalance.builder()
+                                    .userId(participants.get(i))
+                                    .displayName(displayName(user))
+                                    .profileImage(user != null ? user.profileImage() : null)
+                                    .paidAmount(BigDecimal.valueOf(paid[i], fractionDigits))
+                                    .shareAmount(BigDecimal.valueOf(paid[i] - balances[i], fractionDigits))
+                                    .balance(BigDecimal.valueOf(balances[i], fractionDigits))
+                                    .expenseCount(row != null ? row.getExpenseCount() : 0)
+                                    .build();
+                        })
+                        .collect(Collectors.toList()))
+                .transfers(transfers.stream()
+                        .map(transfer -> SettlementResponse.Transfer.builder()
+                                .fromUserId(participants.get(transfer.from()))
+                                .fromDisplayName(displayName(userMap.get(participants.get(transfer.from()))))
+                                .toUserId(participants.get(transfer.to()))
+                                .toDisplayName(displayName(userMap.get(participants.get(transfer.to()))))
+                                .amount(BigDecimal.valueOf(transfer.amount(), fractionDigits))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private String displayName(UserDisplay user) {
+        return user != null ? user.name() : "Unknown";
+    }
+
+    private int fractionDigits(String currency) {
+        try {
+            return Math.max(0, Currency.getInstance(currency).getDefaultFractionDigits());
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_FRACTION_DIGITS;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.famoney.api.statistics.controller;
+
+import com.famoney.api.common.security.CustomUserDetails;
+import com.famoney.api.common.security.RequiresLedgerRole;
+import com.famoney.api.member.entity.MemberRole;
+import com.famoney.api.statistics.dto.MonthlyStatisticsResponse;
+import com.famoney.api.statistics.dto.StatisticsResponse;
+import com.famoney.api.statistics.service.StatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * REST Controller for ledger statistics endpoints.
+ */
+@RestController
+@RequestMapping("/api/v1/ledgers/{ledgerId}/statistics")
+@RequiredArgsConstructor
+@Tag(name = "Statistics", description = "Ledger statistics API")
+@SecurityRequirement(name = "bearerAuth")
+public class StatisticsController {
+
+    private final StatisticsService statisticsService;
+
+    /**
+     * Get aggregated statistics for a ledger.
+     */
+    @GetMapping
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @Operation(summary = "원장 통계 조회",
+            description = "기간 내 지출을 카테고리/멤버/결제수단/일별/월별로 집계합니다. 기본 기간은 최근 12개월입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<StatisticsResponse> getStatistics(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId,
+            @Parameter(description = "시작 날짜 (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        StatisticsResponse response = statisticsService.getStatistics(
+                userDetails.getId(), ledgerId, startDate, endDate);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get month-granular statistics for a ledger from the monthly rollup.
+     */
+    @GetMapping("/monthly")
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @Operation(summary = "원장 월별 통계 조회",
+            description = "월 단위 집계 테이블에서 카테고리/멤버/월별 합계를 조회합니다. 기본 기간은 최근 12개월입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<MonthlyStatisticsResponse> getMonthlyStatistics(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId,
+            @Parameter(description = "시작 월 (YYYY-MM)")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "종료 월 (YYYY-MM)")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+
+        MonthlyStatisticsResponse response = statisticsService.getMonthlyStatistics(
+                userDetails.getId(), ledgerId, from, to);
+        return ResponseEntity.ok(response);
+    }
+}
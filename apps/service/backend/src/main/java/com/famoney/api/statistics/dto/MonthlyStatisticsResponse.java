@@ -0,0 +1,28 @@
+package com.famoney.api.statistics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Response DTO for month-granular ledger statistics served from the monthly rollup.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyStatisticsResponse {
+
+    private String ledgerId;
+    private String from;
+    private String to;
+    private BigDecimal totalAmount;
+    private long expenseCount;
+    private List<StatisticsResponse.CategoryTotal> byCategory;
+    private List<StatisticsResponse.MemberTotal> byMember;
+    private List<StatisticsResponse.MonthlyTotal> byMonth;
+}
@@ -0,0 +1,100 @@
+package com.famoney.api.statistics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response DTO for aggregated ledger statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsResponse {
+
+    private String ledgerId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal totalAmount;
+    private long expenseCount;
+    private List<CategoryTotal> byCategory;
+    private List<MemberTotal> byMember;
+    private List<PaymentMethodTotal> byPaymentMethod;
+    private List<DailyTotal> byDay;
+    private List<MonthlyTotal> byMonth;
+
+    /**
+     * Total for a category. categoryId is null for uncategorized expenses.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryTotal {
+        private String categoryId;
+        private String name;
+        private String color;
+        private BigDecimal totalAmount;
+        private long expenseCount;
+    }
+
+    /**
+     * Total for a member who created expenses.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MemberTotal {
+        private String userId;
+        private String displayName;
+        private String profileImage;
+        private BigDecimal totalAmount;
+        private long expenseCount;
+    }
+
+    /**
+     * Total for a payment method. paymentMethod is null when not specified.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PaymentMethodTotal {
+        private String paymentMethod;
+        private BigDecimal totalAmount;
+        private long expenseCount;
+    }
+
+    /**
+     * Total for a single day.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyTotal {
+        private LocalDate date;
+        private BigDecimal totalAmount;
+        private long expenseCount;
+    }
+
+    /**
+     * Total for a calendar month (YYYY-MM).
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthlyTotal {
+        private String yearMonth;
+        private BigDecimal totalAmount;
+        private long expenseCount;
+    }
+}
@@ -0,0 +1,81 @@
+package com.famoney.api.statistics.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Rollup of expense totals per ledger, month, category and creator.
+ * Rows are maintained incrementally by expense writes and can be rebuilt from expenses.
+ */
+@Entity
+@Table(name = "ledger_monthly_totals")
+@IdClass(LedgerMonthlyTotal.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerMonthlyTotal {
+
+    /**
+     * Stored category ID for uncategorized expenses.
+     */
+    public static final String UNCATEGORIZED = "";
+
+    @Id
+    @Column(name = "ledger_id", nullable = false, length = 36)
+    private String ledgerId;
+
+    @Id
+    @Column(name = "year_month", nullable = false)
+    private int yearMonth;
+
+    @Id
+    @Column(name = "category_id", nullable = false, length = 36)
+    private String categoryId;
+
+    @Id
+    @Column(name = "created_by", nullable = false, length = 36)
+    private String createdBy;
+
+    @Column(name = "total_amount", nullable = false, precision = 17, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "expense_count", nullable = false)
+    private long expenseCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Encode a date as a year_month key (e.g. 2026-03-15 -> 202603).
+     */
+    public static int yearMonthOf(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    /**
+     * Encode a nullable category ID as stored in the rollup.
+     */
+    public static String categoryKeyOf(String categoryId) {
+        return categoryId != null ? categoryId : UNCATEGORIZED;
+    }
+
+    /**
+     * Composite primary key.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String ledgerId;
+        private int yearMonth;
+        private String categoryId;
+        private String createdBy;
+    }
+}
@@ -0,0 +1,46 @@
+package com.famoney.api.statistics.job;
+
+import com.famoney.api.ledger.repository.LedgerRepository;
+import com.famoney.api.statistics.service.LedgerMonthlyTotalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Periodically rebuilds the ledger_monthly_totals rollup from expenses
+ * to repair any drift from the incremental updates.
+ * Each ledger is rebuilt in its own transaction under the ledger row lock, so instances running
+ * the job at the same time rebuild a ledger one after the other.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LedgerMonthlyTotalRebuildJob {
+
+    private final LedgerRepository ledgerRepository;
+    private final LedgerMonthlyTotalService monthlyTotalService;
+
+    /**
+     * Rebuild the rollup of every active ledger.
+     */
+    @Scheduled(cron = "${statistics.rollup.rebuild-cron:0 0 4 * * *}")
+    public void rebuildAll() {
+        List<String> ledgerIds = ledgerRepository.findActiveLedgerIds();
+        log.info("Rebuilding monthly totals for {} ledgers", ledgerIds.size());
+
+        int failed = 0;
+        for (String ledgerId : ledgerIds) {
+            try {
+                monthlyTotalService.rebuild(ledgerId);
+            } catch (Exception ex) {
+                failed++;
+                log.error("Failed to rebuild monthly totals for ledger: {}", ledgerId, ex);
+            }
+        }
+
+        log.info("Rebuilt monthly totals for {} ledgers ({} failed)", ledgerIds.size() - failed, failed);
+    }
+}
@@ -0,0 +1,130 @@
+package com.famoney.api.statistics.repository;
+
+import com.famoney.api.statistics.entity.LedgerMonthlyTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the ledger_monthly_totals rollup.
+ */
+@Repository
+public interface LedgerMonthlyTotalRepository extends JpaRepository<LedgerMonthlyTotal, LedgerMonthlyTotal.Key> {
+
+    /**
+     * Create an empty rollup row if it does not exist yet.
+     * Safe under concurrent writers; the following increment takes the row lock.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ledger_monthly_totals " +
+                   "(ledger_id, year_month, category_id, created_by, total_amount, expense_count, updated_at) " +
+                   "VALUES (:ledgerId, :yearMonth, :categoryId, :createdBy, 0, 0, :now) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(
+            @Param("ledgerId") String ledgerId,
+            @Param("yearMonth") int yearMonth,
+            @Param("categoryId") String categoryId,
+            @Param("createdBy") String createdBy,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Atomically add to a rollup row.
+     */
+    @Modifying
+    @Query("UPDATE LedgerMonthlyTotal t SET t.totalAmount = t.totalAmount + :amount, " +
+           "t.expenseCount = t.expenseCount + :count, t.updatedAt = :now " +
+           "WHERE t.ledgerId = :ledgerId AND t.yearMonth = :yearMonth " +
+           "AND t.categoryId = :categoryId AND t.createdBy = :createdBy")
+    int increment(
+            @Param("ledgerId") String ledgerId,
+            @Param("yearMonth") int yearMonth,
+            @Param("categoryId") String categoryId,
+            @Param("createdBy") String createdBy,
+            @Param("amount") BigDecimal amount,
+            @Param("count") long count,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Delete all rollup rows of a ledger.
+     */
+    @Modifying
+    @Query("DELETE FROM LedgerMonthlyTotal t WHERE t.ledgerId = :ledgerId")
+    int deleteByLedgerId(@Param("ledgerId") String ledgerId);
+
+    /**
+     * Recompute all rollup rows of a ledger from its active expenses.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ledger_monthly_totals " +
+                   "(ledger_id, year_month, category_id, created_by, total_amount, expense_count, updated_at) " +
+                   "SELECT ledger_id, EXTRACT(YEAR FROM expense_date) * 100 + EXTRACT(MONTH FROM expense_date), " +
+                   "COALESCE(category_id, ''), created_by, SUM(amount), COUNT(*), :now " +
+                   "FROM expenses WHERE ledger_id = :ledgerId AND deleted_at IS NULL " +
+                   "GROUP BY ledger_id, EXTRACT(YEAR FROM expense_date) * 100 + EXTRACT(MONTH FROM expense_date), " +
+                   "COALESCE(category_id, ''), created_by",
+           nativeQuery = true)
+    int insertFromExpenses(@Param("ledgerId") String ledgerId, @Param("now") LocalDateTime now);
+
+    /**
+     * Totals for the month range.
+     */
+    @Query("SELECT COALESCE(SUM(t.totalAmount), 0) AS totalAmount, COALESCE(SUM(t.expenseCount), 0) AS expenseCount " +
+           "FROM LedgerMonthlyTotal t " +
+           "WHERE t.ledgerId = :ledgerId AND t.yearMonth BETWEEN :fromMonth AND :toMonth")
+    StatisticsRepository.Total sumTotal(
+            @Param("ledgerId") String ledgerId,
+            @Param("fromMonth") int fromMonth,
+            @Param("toMonth") int toMonth);
+
+    /**
+     * Totals grouped by category for the month range ('' key for uncategorized).
+     */
+    @Query("SELECT t.categoryId AS groupKey, SUM(t.totalAmount) AS totalAmount, SUM(t.expenseCount) AS expenseCount " +
+           "FROM LedgerMonthlyTotal t " +
+           "WHERE t.ledgerId = :ledgerId AND t.yearMonth BETWEEN :fromMonth AND :toMonth " +
+           "GROUP BY t.categoryId HAVING SUM(t.expenseCount) > 0 ORDER BY SUM(t.totalAmount) DESC")
+    List<StatisticsRepository.KeyTotal> sumByCategory(
+            @Param("ledgerId") String ledgerId,
+            @Param("fromMonth") int fromMonth,
+            @Param("toMonth") int toMonth);
+
+    /**
+     * Totals grouped by creator for the month range.
+     */
+    @Query("SELECT t.createdBy AS groupKey, SUM(t.totalAmount) AS totalAmount, SUM(t.expenseCount) AS expenseCount " +
+           "FROM LedgerMonthlyTotal t " +
+           "WHERE t.ledgerId = :ledgerId AND t.yearMonth BETWEEN :fromMonth AND :toMonth " +
+           "GROUP BY t.createdBy HAVING SUM(t.expenseCount) > 0 ORDER BY SUM(t.totalAmount) DESC")
+    List<StatisticsRepository.KeyTotal> sumByMember(
+            @Param("ledgerId") String ledgerId,
+            @Param("fromMonth") int fromMonth,
+            @Param("toMonth") int toMonth);
+
+    /**
+     * Totals grouped by month for the month range.
+     */
+    @Query("SELECT t.yearMonth AS yearMonth, SUM(t.totalAmount) AS totalAmount, SUM(t.expenseCount) AS expenseCount " +
+           "FROM LedgerMonthlyTotal t " +
+           "WHERE t.ledgerId = :ledgerId AND t.yearMonth BETWEEN :fromMonth AND :toMonth " +
+           "GROUP BY t.yearMonth HAVING SUM(t.expenseCount) > 0 ORDER BY t.yearMonth ASC")
+    List<MonthTotal> sumByMonth(
+            @Param("ledgerId") String ledgerId,
+            @Param("fromMonth") int fromMonth,
+            @Param("toMonth") int toMonth);
+
+    /**
+     * Total grouped by encoded year_month.
+     */
+    interface MonthTotal {
+        int getYearMonth();
+        BigDecimal getTotalAmount();
+        long getExpenseCount();
+    }
+}
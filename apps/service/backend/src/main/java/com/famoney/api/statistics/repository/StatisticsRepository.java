@@ -0,0 +1,127 @@
+package com.famoney.api.statistics.repository;
+
+import com.famoney.api.expense.entity.Expense;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for aggregated expense statistics.
+ * All queries run as SQL GROUP BY over active (non-deleted) expenses of a ledger.
+ */
+@Repository
+public interface StatisticsRepository extends org.springframework.data.repository.Repository<Expense, String> {
+
+    /**
+     * Total amount and count for the date range.
+     */
+    @Query("SELECT COALESCE(SUM(e.amount), 0) AS totalAmount, COUNT(e) AS expenseCount FROM Expense e " +
+           "WHERE e.ledgerId = :ledgerId AND e.deletedAt IS NULL " +
+           "AND e.expenseDate BETWEEN :startDate AND :endDate")
+    Total sumTotal(
+            @Param("ledgerId") String ledgerId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Totals grouped by category ID (null key for uncategorized expenses).
+     */
+    @Query("SELECT e.categoryId AS groupKey, SUM(e.amount) AS totalAmount, COUNT(e) AS expenseCount FROM Expense e " +
+           "WHERE e.ledgerId = :ledgerId AND e.deletedAt IS NULL " +
+           "AND e.expenseDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY e.categoryId ORDER BY SUM(e.amount) DESC")
+    List<KeyTotal> sumByCategory(
+            @Param("ledgerId") String ledgerId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Totals grouped by the member who created the expense.
+     */
+    @Query("SELECT e.createdBy AS groupKey, SUM(e.amount) AS totalAmount, COUNT(e) AS expenseCount FROM Expense e " +
+           "WHERE e.ledgerId = :ledgerId AND e.deletedAt IS NULL " +
+           "AND e.expenseDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY e.createdBy ORDER BY SUM(e.amount) DESC")
+    List<KeyTotal> sumByMember(
+            @Param("ledgerId") String ledgerId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Totals grouped by payment method (null key when not specified).
+     */
+    @Query("SELECT e.paymentMethod AS groupKey, SUM(e.amount) AS totalAmount, COUNT(e) AS expenseCount FROM Expense e " +
+           "WHERE e.ledgerId = :ledgerId AND e.deletedAt IS NULL " +
+           "AND e.expenseDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY e.paymentMethod ORDER BY SUM(e.amount) DESC")
+    List<KeyTotal> sumByPaymentMethod(
+            @Param("ledgerId") String ledgerId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Totals grouped by expense date.
+     */
+    @Query("SELECT e.expenseDate AS expenseDate, SUM(e.amount) AS totalAmount, COUNT(e) AS expenseCount FROM Expense e " +
+           "WHERE e.ledgerId = :ledgerId AND e.deletedAt IS NULL " +
+           "AND e.expenseDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY e.expenseDate ORDER BY e.expenseDate ASC")
+    List<DailyTotal> sumByDay(
+            @Param("ledgerId") String ledgerId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Totals grouped by calendar month of the expense date.
+     */
+    @Query("SELECT YEAR(e.expenseDate) AS expenseYear, MONTH(e.expenseDate) AS expenseMonth, " +
+           "SUM(e.amount) AS totalAmount, COUNT(e) AS expenseCount FROM Expense e " +
+           "WHERE e.ledgerId = :ledgerId AND e.deletedAt IS NULL " +
+           "AND e.expenseDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY YEAR(e.expenseDate), MONTH(e.expenseDate) " +
+           "ORDER BY YEAR(e.expenseDate) ASC, MONTH(e.expenseDate) ASC")
+    List<MonthlyTotal> sumByMonth(
+            @Param("ledgerId") String ledgerId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Overall total projection.
+     */
+    interface Total {
+        BigDecimal getTotalAmount();
+        long getExpenseCount();
+    }
+
+    /**
+     * Total grouped by a single string key.
+     */
+    interface KeyTotal {
+        String getGroupKey();
+        BigDecimal getTotalAmount();
+        long getExpenseCount();
+    }
+
+    /**
+     * Total grouped by day.
+     */
+    interface DailyTotal {
+        LocalDate getExpenseDate();
+        BigDecimal getTotalAmount();
+        long getExpenseCount();
+    }
+
+    /**
+     * Total grouped by year and month.
+     */
+    interface MonthlyTotal {
+        int getExpenseYear();
+        int getExpenseMonth();
+        BigDecimal getTotalAmount();
+        long getExpenseCount();
+    }
+}
@@ -0,0 +1,141 @@
+package com.famoney.api.statistics.service;
+
+import com.famoney.api.expense.entity.Expense;
+import com.famoney.api.ledger.repository.LedgerRepository;
+import com.famoney.api.statistics.entity.LedgerMonthlyTotal;
+import com.famoney.api.statistics.repository.LedgerMonthlyTotalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Service maintaining the ledger_monthly_totals rollup.
+ * Incremental updates join the caller's transaction so the rollup commits with the expense.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerMonthlyTotalService {
+
+    private final LedgerMonthlyTotalRepository monthlyTotalRepository;
+    private final LedgerRepository ledgerRepository;
+
+    /**
+     * Add a newly created expense to the rollup.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addExpense(Expense expense) {
+        apply(new Changes().add(expense));
+    }
+
+    /**
+     * Remove a deleted expense from the rollup.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeExpense(Expense expense) {
+        apply(new Changes().remove(expense));
+    }
+
+    /**
+     * Reflect an updated expense given its values before the update.
+     * Handles moves across months and categories.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updateExpense(Expense expense, LocalDate previousDate, String previousCategoryId,
+                              BigDecimal previousAmount) {
+        apply(new Changes().update(expense, previousDate, previousCategoryId, previousAmount));
+    }
+
+    /**
+     * Apply accumulated changes with one upsert per affected rollup row.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Changes changes) {
+        LocalDateTime now = LocalDateTime.now();
+        changes.deltas.forEach((key, delta) -> {
+            if (delta.amount.signum() == 0 && delta.count == 0) {
+                return;
+            }
+            monthlyTotalRepository.insertIfAbsent(
+                    key.getLedgerId(), key.getYearMonth(), key.getCategoryId(), key.getCreatedBy(), now);
+            monthlyTotalRepository.increment(
+                    key.getLedgerId(), key.getYearMonth(), key.getCategoryId(), key.getCreatedBy(),
+                    delta.amount, delta.count, now);
+        });
+    }
+
+    /**
+     * Rebuild the rollup of a ledger from its active expenses.
+     * Holds the ledger row lock, as writers do when they bump the ledger version, so no expense write
+     * or other rebuild of the ledger runs between the delete and the insert.
+     */
+    @Transactional
+    public void rebuild(String ledgerId) {
+        if (ledgerRepository.lockById(ledgerId).isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = monthlyTotalRepository.deleteByLedgerId(ledgerId);
+        int inserted = monthlyTotalRepository.insertFromExpenses(ledgerId, now);
+        log.debug("Rebuilt monthly totals for ledger: {} ({} rows removed, {} rows written)",
+                ledgerId, deleted, inserted);
+    }
+
+    /**
+     * Rollup deltas accumulated per (ledger, month, category, creator).
+     * Lets a batch of expense writes touch each rollup row once.
+     */
+    public static class Changes {
+
+        private final Map<LedgerMonthlyTotal.Key, Delta> deltas = new LinkedHashMap<>();
+
+        /**
+         * Record a created expense.
+         */
+        public Changes add(Expense expense) {
+            return accumulate(expense.getLedgerId(), expense.getExpenseDate(), expense.getCategoryId(),
+                    expense.getCreatedBy(), expense.getAmount(), 1);
+        }
+
+        /**
+         * Record a deleted expense.
+         */
+        public Changes remove(Expense expense) {
+            return accumulate(expense.getLedgerId(), expense.getExpenseDate(), expense.getCategoryId(),
+                    expense.getCreatedBy(), expense.getAmount().negate(), -1);
+        }
+
+        /**
+         * Record an updated expense given its values before the update.
+         */
+        public Changes update(Expense expense, LocalDate previousDate, String previousCategoryId,
+                              BigDecimal previousAmount) {
+            accumulate(expense.getLedgerId(), previousDate, previousCategoryId,
+                    expense.getCreatedBy(), previousAmount.negate(), -1);
+            return add(expense);
+        }
+
+        private Changes accumulate(String ledgerId, LocalDate date, String categoryId, String createdBy,
+                                   BigDecimal amount, long count) {
+            LedgerMonthlyTotal.Key key = new LedgerMonthlyTotal.Key(ledgerId,
+                    LedgerMonthlyTotal.yearMonthOf(date), LedgerMonthlyTotal.categoryKeyOf(categoryId), createdBy);
+            Delta delta = deltas.computeIfAbsent(key, k -> new Delta());
+            delta.amount = delta.amount.add(amount);
+            delta.count += count;
+            return this;
+        }
+    }
+
+    private static class Delta {
+        private BigDecimal amount = BigDecimal.ZERO;
+        private long count;
+    }
+}
@@ -0,0 +1,185 @@
+package com.famoney.api.statistics.service;
+
+import com.famoney.api.category.service.CategoryCache;
+import com.famoney.api.category.service.CategoryCache.CachedCategory;
+import com.famoney.api.common.exception.BadRequestException;
+import com.famoney.api.statistics.dto.MonthlyStatisticsResponse;
+import com.famoney.api.statistics.dto.StatisticsResponse;
+import com.famoney.api.statistics.entity.LedgerMonthlyTotal;
+import com.famoney.api.statistics.repository.LedgerMonthlyTotalRepository;
+import com.famoney.api.statistics.repository.StatisticsRepository;
+import com.famoney.api.user.service.UserDisplayCache;
+import com.famoney.api.user.service.UserDisplayCache.UserDisplay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for ledger statistics.
+ * Totals are aggregated in the database; only the grouped rows are loaded.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class StatisticsService {
+
+    /**
+     * Number of months covered when no start date is given.
+     */
+    private static final int DEFAULT_RANGE_MONTHS = 12;
+
+    private final StatisticsRepository statisticsRepository;
+    private final LedgerMonthlyTotalRepository monthlyTotalRepository;
+    private final CategoryCache categoryCache;
+    private final UserDisplayCache userDisplayCache;
+
+    /**
+     * Get aggregated statistics for a ledger and date range.
+     * Defaults to the last 12 calendar months up to today.
+     */
+    public StatisticsResponse getStatistics(String userId, String ledgerId,
+                                            LocalDate startDate, LocalDate endDate) {
+        log.debug("Getting statistics for ledger: {} by user: {}", ledgerId, userId);
+
+
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null
+                ? startDate
+                : end.minusMonths(DEFAULT_RANGE_MONTHS - 1).withDayOfMonth(1);
+        if (start.isAfter(end)) {
+            throw new BadRequestException("startDate must be on or before endDate");
+        }
+
+        StatisticsRepository.Total total = statisticsRepository.sumTotal(ledgerId, start, end);
+
+        return StatisticsResponse.builder()
+                .ledgerId(ledgerId)
+                .startDate(start)
+                .endDate(end)
+                .totalAmount(total.getTotalAmount())
+                .expenseCount(total.getExpenseCount())
+                .byCategory(toCategoryTotals(ledgerId, statisticsRepository.sumByCategory(ledgerId, start, end)))
+                .byMember(toMemberTotals(ledgerId, statisticsRepository.sumByMember(ledgerId, start, end)))
+                .byPaymentMethod(statisticsRepository.sumByPaymentMethod(ledgerId, start, end).stream()
+                        .map(row -> StatisticsResponse.PaymentMethodTotal.builder()
+                                .paymentMethod(row.getGroupKey())
+                                .totalAmount(row.getTotalAmount())
+                                .expenseCount(row.getExpenseCount())
+                                .build())
+                        .collect(Collectors.toList()))
+                .byDay(statisticsRepository.sumByDay(ledgerId, start, end).stream()
+                        .map(row -> StatisticsResponse.DailyTotal.builder()
+                                .date(row.getExpenseDate())
+                                .totalAmount(row.getTotalAmount())
+                                .expenseCount(row.getExpenseCount())
+                                .build())
+                        .collect(Collectors.toList()))
+                .byMonth(statisticsRepository.sumByMonth(ledgerId, start, end).stream()
+                        .map(row -> StatisticsResponse.MonthlyTotal.builder()
+                                .yearMonth(YearMonth.of(row.getExpenseYear(), row.getExpenseMonth()).toString())
+                                .totalAmount(row.getTotalAmount())
+                                .expenseCount(row.getExpenseCount())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Get month-granular statistics for a ledger from the monthly rollup.
+     * Cost depends on months x categories x members, not on the number of expenses.
+     * Defaults to the last 12 months up to the current month.
+     */
+    public MonthlyStatisticsResponse getMonthlyStatistics(String userId, String ledgerId,
+                                                          YearMonth from, YearMonth to) {
+        log.debug("Getting monthly statistics for ledger: {} by user: {}", ledgerId, userId);
+
+
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(DEFAULT_RANGE_MONTHS - 1);
+        if (start.isAfter(end)) {
+            throw new BadRequestException("from must be on or before to");
+        }
+
+        int fromMonth = LedgerMonthlyTotal.yearMonthOf(start.atDay(1));
+        int toMonth = LedgerMonthlyTotal.yearMonthOf(end.atDay(1));
+        StatisticsRepository.Total total = monthlyTotalRepository.sumTotal(ledgerId, fromMonth, toMonth);
+
+        return MonthlyStatisticsResponse.builder()
+                .ledgerId(ledgerId)
+                .from(start.toString())
+                .to(end.toString())
+                .totalAmount(total.getTotalAmount())
+                .expenseCount(total.getExpenseCount())
+                .byCategory(toCategoryTotals(ledgerId,
+                        monthlyTotalRepository.sumByCategory(ledgerId, fromMonth, toMonth)))
+                .byMember(toMemberTotals(ledgerId, monthlyTotalRepository.sumByMember(ledgerId, fromMonth, toMonth)))
+                .byMonth(monthlyTotalRepository.sumByMonth(ledgerId, fromMonth, toMonth).stream()
+                        .map(row -> StatisticsResponse.MonthlyTotal.builder()
+                                .yearMonth(YearMonth.of(row.getYearMonth() / 100, row.getYearMonth() % 100).toString())
+                                .totalAmount(row.getTotalAmount())
+                                .expenseCount(row.getExpenseCount())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Attach category name and color to category totals.
+     * Both null and the rollup's uncategorized key map to a null categoryId.
+     */
+    private List<StatisticsResponse.CategoryTotal> toCategoryTotals(String ledgerId,
+                                                                    List<StatisticsRepository.KeyTotal> rows) {
+        Map<String, CachedCategory> categoryMap = categoryCache.getCategoriesById(ledgerId);
+
+        return rows.stream()
+                .map(row -> {
+                    String categoryId = toCategoryId(row.getGroupKey());
+                    CachedCategory category = categoryId != null ? categoryMap.get(categoryId) : null;
+                    return StatisticsResponse.CategoryTotal.builder()
+                            .categoryId(categoryId)
+                            .name(category != null ? category.name() : null)
+                            .color(category != null ? category.color() : null)
+                            .totalAmount(row.getTotalAmount())
+                            .expenseCount(row.getExpenseCount())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Attach user display info to member totals.
+     */
+    private List<StatisticsResponse.MemberTotal> toMemberTotals(String ledgerId,
+                                                                List<StatisticsRepository.KeyTotal> rows) {
+        Set<String> userIds = rows.stream()
+                .map(StatisticsRepository.KeyTotal::getGroupKey)
+                .collect(Collectors.toSet());
+        Map<String, UserDisplay> userMap = userDisplayCache.getAll(ledgerId, userIds);
+
+        return rows.stream()
+                .map(row -> {
+                    UserDisplay user = userMap.get(row.getGroupKey());
+                    return StatisticsResponse.MemberTotal.builder()
+                            .userId(row.getGroupKey())
+                            .displayName(user != null ? user.name() : "Unknown")
+                            .profileImage(user != null ? user.profileImage() : null)
+                            .totalAmount(row.getTotalAmount())
+                            .expenseCount(row.getExpenseCount())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    private String toCategoryId(String groupKey) {
+        return LedgerMonthlyTotal.UNCATEGORIZED.equals(groupKey) ? null : groupKey;
+    }
+}
@@ -0,0 +1,58 @@
+package com.famoney.api.sync.controller;
+
+import com.famoney.api.common.security.CustomUserDetails;
+import com.famoney.api.common.security.RequiresLedgerRole;
+import com.famoney.api.member.entity.MemberRole;
+import com.famoney.api.sync.dto.LedgerChangesResponse;
+import com.famoney.api.sync.service.LedgerChangeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for ledger delta sync.
+ */
+@RestController
+@RequestMapping("/api/v1/ledgers/{ledgerId}/changes")
+@RequiredArgsConstructor
+@Tag(name = "Sync", description = "Ledger delta sync API")
+@SecurityRequirement(name = "bearerAuth")
+public class LedgerChangeController {
+
+    private final LedgerChangeService ledgerChangeService;
+
+    /**
+     * Get the expenses, categories and members changed since a sync token.
+     */
+    @GetMapping
+    @RequiresLedgerRole(MemberRole.VIEWER)
+    @Operation(summary = "원장 변경분 동기화",
+            description = "since 토큰 이후 생성, 수정, 삭제된 지출, 카테고리, 멤버를 반환합니다. " +
+                    "토큰이 없으면 전체 스냅샷(fullSync)을 반환합니다. hasMore가 true이면 받은 토큰으로 바로 다시 요청합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 토큰"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "원장을 찾을 수 없음")
+    })
+    public ResponseEntity<LedgerChangesResponse> getChanges(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ledgerId,
+            @Parameter(description = "이전 응답의 동기화 토큰")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "한 번에 받을 최대 지출 수 (최대 1000)")
+            @RequestParam(defaultValue = "500") int limit) {
+
+        LedgerChangesResponse response = ledgerChangeService.getChanges(
+                userDetails.getId(), ledgerId, since, limit);
+        return ResponseEntity.ok(response);
+    }
+}
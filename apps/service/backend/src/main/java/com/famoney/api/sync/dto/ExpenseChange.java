@@ -0,0 +1,45 @@
+package com.famoney.api.sync.dto;
+
+import com.famoney.api.expense.entity.Expense;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Compact expense row for delta sync; category and creator are referenced by id.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseChange {
+
+    private String id;
+    private BigDecimal amount;
+    private String description;
+    private LocalDate expenseDate;
+    private String paymentMethod;
+    private String categoryId;
+    private String createdBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static ExpenseChange from(Expense expense) {
+        return ExpenseChange.builder()
+                .id(expense.getId())
+                .amount(expense.getAmount())
+                .description(expense.getDescription())
+                .expenseDate(expense.getExpenseDate())
+                .paymentMethod(expense.getPaymentMethod())
+                .categoryId(expense.getCategoryId())
+                .createdBy(expense.getCreatedBy())
+                .createdAt(expense.getCreatedAt())
+                .updatedAt(expense.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.famoney.api.sync.dto;
+
+import com.famoney.api.category.dto.CategoryResponse;
+import com.famoney.api.member.dto.MemberResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for delta sync: rows changed or removed since the client's token.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerChangesResponse {
+
+    /**
+     * Token to pass as "since" on the next request.
+     */
+    private String token;
+
+    /**
+     * True when this is a full snapshot; the client should replace its local copy.
+     */
+    private boolean fullSync;
+
+    /**
+     * True when more expenses are pending; request again with the token right away.
+     */
+    private boolean hasMore;
+
+    private List<ExpenseChange> expenses;
+    private List<String> deletedExpenseIds;
+    private List<CategoryResponse> categories;
+    private List<String> deletedCategoryIds;
+    private List<MemberResponse> members;
+    private List<String> deletedMemberIds;
+}
@@ -0,0 +1,42 @@
+package com.famoney.api.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * LedgerTombstone entity: a hard-deleted category or member, kept so delta sync can report the removal.
+ * Soft-deleted expenses need no tombstone; their row carries the change sequence.
+ */
+@Entity
+@Table(name = "ledger_tombstones")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerTombstone {
+
+    @Id
+    @Column(name = "entity_id", length = 36)
+    private String entityId;
+
+    @Column(name = "ledger_id", nullable = false, length = 36)
+    private String ledgerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private TombstoneType entityType;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        deletedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,9 @@
+package com.famoney.api.sync.entity;
+
+/**
+ * Kinds of hard-deleted rows recorded as tombstones for delta sync.
+ */
+public enum TombstoneType {
+    CATEGORY,
+    MEMBER
+}
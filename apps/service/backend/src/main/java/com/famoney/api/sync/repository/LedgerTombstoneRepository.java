@@ -0,0 +1,25 @@
+package com.famoney.api.sync.repository;
+
+import com.famoney.api.sync.entity.LedgerTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for LedgerTombstone entity.
+ */
+@Repository
+public interface LedgerTombstoneRepository extends JpaRepository<LedgerTombstone, String> {
+
+    /**
+     * Find tombstones of a ledger recorded after a change sequence, up to and including another.
+     */
+    @Query("SELECT t FROM LedgerTombstone t WHERE t.ledgerId = :ledgerId " +
+           "AND t.changeSeq > :afterSeq AND t.changeSeq <= :upToSeq")
+    List<LedgerTombstone> findChangedBetween(@Param("ledgerId") String ledgerId,
+                                             @Param("afterSeq") long afterSeq,
+                                             @Param("upToSeq") long upToSeq);
+}
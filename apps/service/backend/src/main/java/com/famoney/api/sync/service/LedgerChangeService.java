@@ -0,0 +1,189 @@
+package com.famoney.api.sync.service;
+
+import com.famoney.api.category.dto.CategoryResponse;
+import com.famoney.api.category.entity.Category;
+import com.famoney.api.category.repository.CategoryRepository;
+import com.famoney.api.common.exception.BadRequestException;
+import com.famoney.api.common.exception.ResourceNotFoundException;
+import com.famoney.api.expense.entity.Expense;
+import com.famoney.api.expense.repository.ExpenseRepository;
+import com.famoney.api.ledger.service.LedgerVersionService;
+import com.famoney.api.member.dto.MemberResponse;
+import com.famoney.api.member.repository.MemberRepository;
+import com.famoney.api.sync.dto.ExpenseChange;
+import com.famoney.api.sync.dto.LedgerChangesResponse;
+import com.famoney.api.sync.entity.LedgerTombstone;
+import com.famoney.api.sync.entity.TombstoneType;
+import com.famoney.api.sync.repository.LedgerTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service for delta sync of a ledger's expenses, categories and members.
+ * <p>
+ * Every write stamps the rows it changes with the ledger version it bumped (the change sequence),
+ * and the bump holds the ledger row lock until commit, so all rows up to a version are visible once
+ * the version is. A token names the version the client has caught up to; a request returns rows with
+ * a change sequence after it, up to the version current when the sync started. Large expense deltas
+ * are paged by (change sequence, id) with a continuation token that keeps that upper bound;
+ * categories, members and tombstones are returned in full on the first page.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class LedgerChangeService {
+
+    /**
+     * Maximum number of expenses returned in one response.
+     */
+    private static final int MAX_LIMIT = 1000;
+
+    private final ExpenseRepository expenseRepository;
+    private final CategoryRepository categoryRepository;
+    private final MemberRepository memberRepository;
+    private final LedgerTombstoneRepository ledgerTombstoneRepository;
+    private final LedgerVersionService ledgerVersionService;
+
+    /**
+     * Get the changes to a ledger since a token, or a full snapshot when there is none.
+     * A token from a later version than the ledger's (e.g. after a restore) also yields a full snapshot.
+     *
+     * @throws BadRequestException if the token is malformed
+     */
+    public LedgerChangesResponse getChanges(String userId, String ledgerId, String since, int limit) {
+        log.debug("Getting changes for ledger: {} since: {} by user: {}", ledgerId, since, userId);
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+        long currentVersion = ledgerVersionService.findVersion(ledgerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Ledger", "id", ledgerId))
+                .getVersion();
+
+        Position position = Position.parse(since);
+        if (position != null && position.upToSeq() > currentVersion) {
+            position = null;
+        }
+        boolean fullSync = position == null || position.fullSync();
+        boolean firstPage = position == null || position.afterId() == null;
+        long afterSeq = position != null ? position.afterSeq() : -1;
+        long upToSeq = firstPage ? currentVersion : position.upToSeq();
+
+        // A first page starts at (afterSeq + 1, ""), i.e. every row with changeSeq > afterSeq
+        long fromSeq = firstPage ? afterSeq + 1 : afterSeq;
+        String fromId = firstPage ? "" : position.afterId();
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<Expense> rows = fullSync
+                ? expenseRepository.findActiveChangedAfter(ledgerId, fromSeq, fromId, upToSeq, pageRequest)
+                : expenseRepository.findChangedAfter(ledgerId, fromSeq, fromId, upToSeq, pageRequest);
+        boolean hasMore = rows.size() > pageSize;
+        List<Expense> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        LedgerChangesResponse.LedgerChangesResponseBuilder response = LedgerChangesResponse.builder()
+                .fullSync(fullSync)
+                .hasMore(hasMore)
+                .expenses(page.stream()
+                        .filter(expense -> !expense.isDeleted())
+                        .map(ExpenseChange::from)
+                        .collect(Collectors.toList()))
+                .deletedExpenseIds(page.stream()
+                        .filter(Expense::isDeleted)
+                        .map(Expense::getId)
+                        .collect(Collectors.toList()));
+
+        if (hasMore) {
+            Expense last = page.get(page.size() - 1);
+            response.token(new Position(upToSeq, last.getChangeSeq(), last.getId(), fullSync).format());
+        } else {
+            response.token(Long.toString(upToSeq));
+        }
+
+        if (!firstPage) {
+            return response
+                    .categories(List.of())
+                    .deletedCategoryIds(List.of())
+                    .members(List.of())
+                    .deletedMemberIds(List.of())
+                    .build();
+        }
+
+        List<Category> categories = fullSync
+                ? categoryRepository.findAllForLedger(ledgerId)
+                : categoryRepository.findChangedBetween(ledgerId, afterSeq, upToSeq);
+        List<MemberRepository.MemberSummary> members = fullSync
+                ? memberRepository.findSummariesByLedgerId(ledgerId)
+                : memberRepository.findSummariesChangedBetween(ledgerId, afterSeq, upToSeq);
+        List<LedgerTombstone> tombstones = fullSync
+                ? List.of()
+                : ledgerTombstoneRepository.findChangedBetween(ledgerId, afterSeq, upToSeq);
+
+        return response
+                .categories(categories.stream()
+                        .map(CategoryResponse::from)
+                        .collect(Collectors.toList()))
+                .deletedCategoryIds(tombstoneIds(tombstones, TombstoneType.CATEGORY))
+                .members(members.stream()
+                        .map(row -> MemberResponse.builder()
+                                .id(row.getId())
+                                .user(MemberResponse.UserSummary.builder()
+                                        .id(row.getUserId())
+                                        .email(row.getEmail())
+                                        .name(row.getName())
+                                        .profileImage(row.getProfileImage())
+                                        .build())
+                                .role(row.getRole())
+                                .joinedAt(row.getJoinedAt())
+                                .build())
+                        .collect(Collectors.toList()))
+                .deletedMemberIds(tombstoneIds(tombstones, TombstoneType.MEMBER))
+                .build();
+    }
+
+    private List<String> tombstoneIds(List<LedgerTombstone> tombstones, TombstoneType type) {
+        return tombstones.stream()
+                .filter(tombstone -> tombstone.getEntityType() == type)
+                .map(LedgerTombstone::getEntityId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Parsed sync token. A plain token "{seq}" means everything up to seq was delivered.
+     * A continuation "{upToSeq}.{afterSeq}.{afterId}.{f|d}" resumes the expense page after
+     * (afterSeq, afterId) within the same sync, f for a full snapshot and d for a delta.
+     */
+    private record Position(long upToSeq, long afterSeq, String afterId, boolean fullSync) {
+
+        static Position parse(String token) {
+            if (token == null || token.isBlank()) {
+                return null;
+            }
+            try {
+                String[] parts = token.split("\\.");
+                if (parts.length == 1) {
+                    long seq = Long.parseLong(parts[0]);
+                    if (seq < 0) {
+                        throw new NumberFormatException();
+                    }
+                    return new Position(seq, seq, null, false);
+                }
+                if (parts.length == 4 && !parts[2].isEmpty()
+                        && (parts[3].equals("f") || parts[3].equals("d"))) {
+                    return new Position(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2],
+                            parts[3].equals("f"));
+                }
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+            throw new BadRequestException("Invalid sync token: " + token);
+        }
+
+        String format() {
+            return upToSeq + "." + afterSeq + "." + afterId + "." + (fullSync ? "f" : "d");
+        }
+    }
+}
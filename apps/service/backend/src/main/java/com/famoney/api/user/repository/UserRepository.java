@@ -2,8 +2,12 @@ package com.famoney.api.user.repository;
 
 import com.famoney.api.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,4 +35,19 @@ public interface UserRepository extends JpaRepository<User, String> {
      * Check if email exists (for active users only).
      */
     boolean existsByEmailIgnoreCaseAndDeletedAtIsNull(String email);
+
+    /**
+     * Find display info of users, including deleted ones, without loading the entities.
+     */
+    @Query("SELECT u.id AS id, u.name AS name, u.profileImage AS profileImage FROM User u WHERE u.id IN :ids")
+    List<UserDisplayRow> findDisplayRowsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * User columns needed to show a user next to expenses and totals.
+     */
+    interface UserDisplayRow {
+        String getId();
+        String getName();
+        String getProfileImage();
+    }
 }
@@ -0,0 +1,82 @@
+package com.famoney.api.user.service;
+
+import com.famoney.api.common.cache.ReferenceCaches;
+import com.famoney.api.ledger.service.LedgerVersionService;
+import com.famoney.api.user.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User display info (name and profile image) shown next to a ledger's expenses and totals,
+ * cached per ledger version in the "userDisplay" cache.
+ * A profile change bumps every ledger of the user, which moves readers to new entries.
+ * Lookups are bulk, so this uses the cache directly instead of {@code @Cacheable}.
+ */
+@Service
+public class UserDisplayCache {
+
+    private final UserRepository userRepository;
+    private final LedgerVersionService ledgerVersionService;
+    private final Cache cache;
+
+    public UserDisplayCache(UserRepository userRepository, LedgerVersionService ledgerVersionService,
+                            CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.ledgerVersionService = ledgerVersionService;
+        this.cache = cacheManager.getCache(ReferenceCaches.USER_DISPLAY);
+    }
+
+    /**
+     * Get display info of users shown in a ledger, loading the missing ones in one query.
+     * Users that do not exist are absent from the result.
+     */
+    public Map<String, UserDisplay> getAll(String ledgerId, Collection<String> userIds) {
+        if (!ReferenceCaches.outsideWriteTransaction()) {
+            return load(userIds);
+        }
+
+        long version = ledgerVersionService.currentVersion(ledgerId);
+        Map<String, UserDisplay> users = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String userId : userIds) {
+            UserDisplay user = cache.get(new SimpleKey(ledgerId, version, userId), UserDisplay.class);
+            if (user != null) {
+                users.put(userId, user);
+            } else {
+                missing.add(userId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            load(missing).forEach((userId, user) -> {
+                cache.put(new SimpleKey(ledgerId, version, userId), user);
+                users.put(userId, user);
+            });
+        }
+        return users;
+    }
+
+    private Map<String, UserDisplay> load(Collection<String> userIds) {
+        Map<String, UserDisplay> users = new HashMap<>();
+        userRepository.findDisplayRowsByIdIn(List.copyOf(userIds))
+                .forEach(row -> users.put(row.getId(), UserDisplay.from(row)));
+        return users;
+    }
+
+    /**
+     * Name and profile image of a user.
+     */
+    public record UserDisplay(String id, String name, String profileImage) {
+
+        static UserDisplay from(UserRepository.UserDisplayRow row) {
+            return new UserDisplay(row.getId(), row.getName(), row.getProfileImage());
+        }
+    }
+}
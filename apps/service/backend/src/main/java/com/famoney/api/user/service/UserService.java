@@ -2,6 +2,7 @@ package com.famoney.api.user.service;
 
 import com.famoney.api.common.exception.BadRequestException;
 import com.famoney.api.common.exception.ResourceNotFoundException;
+import com.famoney.api.ledger.service.LedgerVersionService;
 import com.famoney.api.user.dto.ChangePasswordRequest;
 import com.famoney.api.user.dto.UpdateUserRequest;
 import com.famoney.api.user.dto.UserResponse;
@@ -24,6 +25,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final LedgerVersionService ledgerVersionService;
 
     /**
      * Get user by ID.
@@ -60,6 +62,7 @@ public class UserService {
         }
 
         User savedUser = userRepository.save(user);
+        ledgerVersionService.bumpForMember(userId);
         log.info("Updated user profile: {}", savedUser.getEmail());
         return UserResponse.from(savedUser);
     }
@@ -91,12 +94,12 @@ public class UserService {
         User user = findUserById(userId);
 
         // Verify current password
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
+        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
             throw new BadRequestException("현재 비밀번호가 일치하지 않습니다.");
         }
 
         // Update password
-        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
+        user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
         log.info("Changed password for user: {}", user.getEmail());
     }
@@ -0,0 +1,23 @@
+-- V11: Create jobs table for background ledger operations
+-- Result files live in the local job store, keyed by job id.
+CREATE TABLE jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    ledger_id VARCHAR(36) NOT NULL,
+    type VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_by VARCHAR(36) NOT NULL,
+    processed_items BIGINT NOT NULL DEFAULT 0,
+    failed_items BIGINT NOT NULL DEFAULT 0,
+    result_filename VARCHAR(255),
+    result_content_type VARCHAR(100),
+    error_message VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_jobs_ledger FOREIGN KEY (ledger_id) REFERENCES ledgers(id),
+    CONSTRAINT fk_jobs_created_by FOREIGN KEY (created_by) REFERENCES users(id)
+);
+
+CREATE INDEX idx_jobs_ledger_created_at ON jobs(ledger_id, created_at);
+CREATE INDEX idx_jobs_status ON jobs(status);
@@ -0,0 +1,4 @@
+-- V12: Add a version to ledgers for conditional GETs
+-- Bumped (with updated_at) in the same transaction as any change to the ledger's
+-- expenses, categories, members or the ledger itself.
+ALTER TABLE ledgers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+-- V13: Create outbox_events table
+-- Domain events written in the same transaction as the change and drained in id order by the outbox poller.
+-- Ids come from a sequence allocated in blocks of 50 so inserts can be batched.
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id BIGINT PRIMARY KEY,
+    ledger_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(30) NOT NULL,
+    resource_id VARCHAR(36),
+    actor_id VARCHAR(36),
+    payload VARCHAR(8000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
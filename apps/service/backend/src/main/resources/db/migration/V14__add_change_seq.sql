@@ -0,0 +1,19 @@
+-- V14: Per-ledger change sequence for delta sync
+-- Rows are stamped with the ledger version of the transaction that last changed them.
+-- Hard-deleted members and categories leave a tombstone with the version that removed them.
+ALTER TABLE expenses ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE categories ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE members ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_expenses_ledger_change_seq ON expenses(ledger_id, change_seq, id);
+
+CREATE TABLE ledger_tombstones (
+    entity_id VARCHAR(36) PRIMARY KEY,
+    ledger_id VARCHAR(36) NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_ledger_tombstones_ledger FOREIGN KEY (ledger_id) REFERENCES ledgers(id)
+);
+
+CREATE INDEX idx_ledger_tombstones_ledger_change_seq ON ledger_tombstones(ledger_id, change_seq);
@@ -0,0 +1,12 @@
+-- V15: Outbox dispatch state and per-ledger ordering
+-- ledger_version is the ledger version of the writing transaction, so a ledger's events order by commit.
+-- Events are kept after dispatch for outbox.retention, so every instance can read them for its own live feed.
+-- A failed dispatch is retried after next_attempt_at until attempts reaches outbox.max-attempts.
+ALTER TABLE outbox_events ADD COLUMN ledger_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE outbox_events ADD COLUMN dispatched_at TIMESTAMP;
+ALTER TABLE outbox_events ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE outbox_events ADD COLUMN next_attempt_at TIMESTAMP;
+ALTER TABLE outbox_events ADD COLUMN last_error VARCHAR(1000);
+
+CREATE INDEX idx_outbox_events_ledger_version ON outbox_events(ledger_id, ledger_version, id);
+CREATE INDEX idx_outbox_events_dispatched_at ON outbox_events(dispatched_at, id);
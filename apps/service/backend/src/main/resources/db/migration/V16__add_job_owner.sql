@@ -0,0 +1,7 @@
+-- V16: Job ownership and heartbeats
+-- owner is the instance running the job; it refreshes heartbeat_at while the job is unfinished.
+-- Jobs whose heartbeat is older than job.lease are failed by any instance, so live peers' jobs are kept.
+ALTER TABLE jobs ADD COLUMN owner VARCHAR(36);
+ALTER TABLE jobs ADD COLUMN heartbeat_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE INDEX idx_jobs_owner ON jobs(owner);
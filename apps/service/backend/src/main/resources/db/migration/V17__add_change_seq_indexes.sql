@@ -0,0 +1,4 @@
+-- V17: Change sequence indexes for delta sync of categories and members
+-- The delta reads rows of one ledger in a change_seq range, like idx_expenses_ledger_change_seq.
+CREATE INDEX idx_categories_ledger_change_seq ON categories(ledger_id, change_seq);
+CREATE INDEX idx_members_ledger_change_seq ON members(ledger_id, change_seq);
@@ -0,0 +1,8 @@
+-- V18: Outbox is read by every instance only
+-- No consumer dispatches events once across instances, so the dispatch state from V15 is dropped.
+-- Events are read by ledger_version and deleted after outbox.retention.
+DROP INDEX idx_outbox_events_dispatched_at;
+ALTER TABLE outbox_events DROP COLUMN dispatched_at;
+ALTER TABLE outbox_events DROP COLUMN attempts;
+ALTER TABLE outbox_events DROP COLUMN next_attempt_at;
+ALTER TABLE outbox_events DROP COLUMN last_error;
@@ -0,0 +1,3 @@
+-- V19: Cancellation requests for running jobs
+-- Set by whichever instance receives the cancel request; the owner stops the job at its next progress write.
+ALTER TABLE jobs ADD COLUMN cancel_requested BOOLEAN NOT NULL DEFAULT FALSE;
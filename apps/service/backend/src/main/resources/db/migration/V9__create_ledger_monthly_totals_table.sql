@@ -0,0 +1,27 @@
+-- V9: Create ledger_monthly_totals rollup table
+-- Maintained incrementally by expense writes; category_id '' means uncategorized.
+CREATE TABLE ledger_monthly_totals (
+    ledger_id VARCHAR(36) NOT NULL,
+    year_month INTEGER NOT NULL,
+    category_id VARCHAR(36) NOT NULL DEFAULT '',
+    created_by VARCHAR(36) NOT NULL,
+    total_amount DECIMAL(17, 2) NOT NULL DEFAULT 0,
+    expense_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_ledger_monthly_totals PRIMARY KEY (ledger_id, year_month, category_id, created_by),
+    CONSTRAINT fk_ledger_monthly_totals_ledger FOREIGN KEY (ledger_id) REFERENCES ledgers(id)
+);
+
+-- Backfill from existing expenses
+INSERT INTO ledger_monthly_totals (ledger_id, year_month, category_id, created_by, total_amount, expense_count, updated_at)
+SELECT ledger_id,
+       EXTRACT(YEAR FROM expense_date) * 100 + EXTRACT(MONTH FROM expense_date),
+       COALESCE(category_id, ''),
+       created_by,
+       SUM(amount),
+       COUNT(*),
+       CURRENT_TIMESTAMP
+FROM expenses
+WHERE deleted_at IS NULL
+GROUP BY ledger_id, EXTRACT(YEAR FROM expense_date) * 100 + EXTRACT(MONTH FROM expense_date),
+         COALESCE(category_id, ''), created_by;
@@ -0,0 +1,167 @@
+package com.famoney.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HTTP load test for the expense list endpoint with 1,000 concurrent clients.
+ * Runs once on platform threads and once on virtual threads and prints throughput and p95 of each;
+ * virtual threads only take effect on Java 21+.
+ * Excluded from {@code test}; run with {@code ./gradlew loadTest}.
+ */
+@Tag("load")
+abstract class RequestLoadTest {
+
+    private static final int CLIENTS = 1000;
+    private static final int REQUESTS_PER_CLIENT = 10;
+    private static final int WARMUP_REQUESTS_PER_CLIENT = 2;
+    private static final int SEED_EXPENSES = 50;
+
+    // Dev profile logs every request and statement
+    private static final String NO_SQL_LOG = "spring.jpa.show-sql=false";
+    private static final String QUIET_LOG = "logging.level.root=WARN";
+    private static final String QUIET_APP_LOG = "logging.level.com.famoney=WARN";
+    private static final String QUIET_SECURITY_LOG = "logging.level.org.springframework.security=WARN";
+    private static final String QUIET_SQL_LOG = "logging.level.org.hibernate.SQL=WARN";
+    private static final String QUIET_BINDER_LOG = "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {"spring.threads.virtual.enabled=false",
+                    NO_SQL_LOG, QUIET_LOG, QUIET_APP_LOG, QUIET_SECURITY_LOG,
+                    QUIET_SQL_LOG, QUIET_BINDER_LOG})
+    static class PlatformThreads extends RequestLoadTest {
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {"spring.threads.virtual.enabled=true",
+                    NO_SQL_LOG, QUIET_LOG, QUIET_APP_LOG, QUIET_SECURITY_LOG,
+                    QUIET_SQL_LOG, QUIET_BINDER_LOG})
+    static class VirtualThreads extends RequestLoadTest {
+    }
+
+    @Test
+    void listExpenses() throws Exception {
+        String token = signUp();
+        String ledgerId = post("/api/v1/ledgers", token, "{\"name\":\"Load\"}").get("id").asText();
+        for (int i = 0; i < SEED_EXPENSES; i++) {
+            post("/api/v1/ledgers/" + ledgerId + "/expenses", token,
+                    "{\"amount\":" + (1000 + i) + ",\"description\":\"load " + i + "\",\"expenseDate\":\"2026-01-"
+                            + String.format("%02d", 1 + i % 28) + "\"}");
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/ledgers/" + ledgerId + "/expenses?size=20"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        run(request, WARMUP_REQUESTS_PER_CLIENT);
+        Result result = run(request, REQUESTS_PER_CLIENT);
+
+        System.out.printf("%s: %d clients, %d requests, %d failed, %.0f req/s, p50 %d ms, p95 %d ms, p99 %d ms%n",
+                getClass().getSimpleName(), CLIENTS, result.latencies.length, result.failed,
+                result.throughput(), result.percentile(50), result.percentile(95), result.percentile(99));
+        assertThat(result.failed).isZero();
+    }
+
+    /**
+     * Each client sends its requests back to back, so CLIENTS requests are in flight at any time.
+     */
+    private Result run(HttpRequest request, int requestsPerClient) {
+        long[] latencies = new long[CLIENTS * requestsPerClient];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        long start = System.nanoTime();
+        CompletableFuture<?>[] clients = new CompletableFuture<?>[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clients[i] = send(request, requestsPerClient, latencies, next, failed);
+        }
+        CompletableFuture.allOf(clients).join();
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(Arrays.copyOf(latencies, next.get()), failed.get(), elapsed);
+    }
+
+    private CompletableFuture<Void> send(HttpRequest request, int remaining, long[] latencies,
+                                         AtomicInteger next, AtomicInteger failed) {
+        if (remaining == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    latencies[next.getAndIncrement()] = (System.nanoTime() - start) / 1_000_000;
+                    if (error != null || response.statusCode() != 200) {
+                        failed.incrementAndGet();
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> send(request, remaining - 1, latencies, next, failed));
+    }
+
+    private String signUp() throws Exception {
+        String email = "load-" + UUID.randomUUID() + "@famoney.test";
+        return post("/api/v1/auth/signup", null,
+                "{\"email\":\"" + email + "\",\"password\":\"password123\",\"name\":\"Load\"}")
+                .get("accessToken").asText();
+    }
+
+    private JsonNode post(String path, String token, String body) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as(response.body()).isBetween(200, 299);
+        return objectMapper.readTree(response.body());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private record Result(long[] latencies, int failed, long elapsedNanos) {
+
+        Result {
+            Arrays.sort(latencies);
+        }
+
+        double throughput() {
+            return latencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        long percentile(int percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(0, index)];
+        }
+    }
+}
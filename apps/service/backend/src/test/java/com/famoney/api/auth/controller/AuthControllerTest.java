@@ -0,0 +1,80 @@
+package com.famoney.api.auth.controller;
+
+import com.famoney.api.auth.dto.AuthResponse;
+import com.famoney.api.auth.dto.SignupRequest;
+import com.famoney.api.auth.service.AuthService;
+import com.famoney.api.common.web.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotent token refresh: a retry replays the issued tokens until they are revoked.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AuthService authService;
+
+    @Test
+    void refreshRetryReplaysTokensUntilLogout() throws Exception {
+        String refreshToken = authService.signup(SignupRequest.builder()
+                        .email("refresh-" + UUID.randomUUID() + "@famoney.test")
+                        .password("password123")
+                        .name("Refresh")
+                        .build())
+                .getRefreshToken();
+        String key = UUID.randomUUID().toString();
+
+        AuthResponse issued = body(refresh(refreshToken, key)
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyStore.REPLAYED_HEADER)));
+
+        AuthResponse replayed = body(refresh(refreshToken, key)
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyStore.REPLAYED_HEADER, "true")));
+        assertThat(replayed.getRefreshToken()).isEqualTo(issued.getRefreshToken());
+        assertThat(replayed.getAccessToken()).isEqualTo(issued.getAccessToken());
+
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + issued.getAccessToken()))
+                .andExpect(status().is2xxSuccessful());
+
+        refresh(refreshToken, key)
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().doesNotExist(IdempotencyStore.REPLAYED_HEADER));
+    }
+
+    private ResultActions refresh(String refreshToken, String key) throws Exception {
+        return mockMvc.perform(post("/api/v1/auth/refresh")
+                .header(IdempotencyStore.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("refreshToken", refreshToken))));
+    }
+
+    private AuthResponse body(ResultActions result) throws Exception {
+        return objectMapper.readValue(result.andReturn().getResponse().getContentAsString(), AuthResponse.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.famoney.api.common.cache;
+
+import com.famoney.api.auth.dto.SignupRequest;
+import com.famoney.api.auth.service.AuthService;
+import com.famoney.api.category.dto.CategoryResponse;
+import com.famoney.api.category.dto.CreateCategoryRequest;
+import com.famoney.api.category.service.CategoryCache;
+import com.famoney.api.category.service.CategoryService;
+import com.famoney.api.ledger.dto.CreateLedgerRequest;
+import com.famoney.api.ledger.service.LedgerService;
+import com.famoney.api.user.dto.UpdateUserRequest;
+import com.famoney.api.user.service.UserDisplayCache;
+import com.famoney.api.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reference cache entries are keyed by the ledger version, so a change committed elsewhere
+ * (simulated here with plain SQL, as another instance would not evict this one's caches) is
+ * visible on the next read.
+ */
+@SpringBootTest
+class ReferenceCachesTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDisplayCache userDisplayCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String userId;
+    private String ledgerId;
+
+    @BeforeEach
+    void setUp() {
+        userId = authService.signup(SignupRequest.builder()
+                        .email("cache-" + UUID.randomUUID() + "@famoney.test")
+                        .password("password123")
+                        .name("Cache")
+                        .build())
+                .getUser()
+                .getId();
+        ledgerId = ledgerService.createLedger(userId, new CreateLedgerRequest("Cache", null, "KRW")).getId();
+    }
+
+    @Test
+    void categoryChangeCommittedElsewhereIsNotServedStale() {
+        String categoryId = categoryService.createCategory(userId, ledgerId, CreateCategoryRequest.builder()
+                        .name("Food")
+                        .color("#808080")
+                        .build())
+                .getId();
+        assertThat(categoryCache.getCategoriesById(ledgerId).get(categoryId).name()).isEqualTo("Food");
+
+        jdbcTemplate.update("UPDATE categories SET name = 'Groceries' WHERE id = ?", categoryId);
+        assertThat(categoryCache.getCategoriesById(ledgerId).get(categoryId).name()).isEqualTo("Food");
+
+        bumpVersion();
+        assertThat(categoryCache.getCategoriesById(ledgerId).get(categoryId).name()).isEqualTo("Groceries");
+    }
+
+    @Test
+    void handedOutResponsesDoNotAliasCachedEntries() {
+        String categoryId = categoryService.createCategory(userId, ledgerId, CreateCategoryRequest.builder()
+                        .name("Food")
+                        .build())
+                .getId();
+
+        List<CategoryResponse> categories = categoryService.getCategories(userId, ledgerId);
+        categories.forEach(category -> category.setName("Changed"));
+
+        assertThat(categoryCache.getCategoriesById(ledgerId).get(categoryId).name()).isEqualTo("Food");
+    }
+
+    @Test
+    void profileChangeMovesLedgerReadersToNewEntries() {
+        assertThat(userDisplayCache.getAll(ledgerId, List.of(userId)).get(userId).name()).isEqualTo("Cache");
+
+        userService.updateUser(userId, new UpdateUserRequest("Renamed", null));
+
+        assertThat(userDisplayCache.getAll(ledgerId, List.of(userId)).get(userId).name()).isEqualTo("Renamed");
+    }
+
+    private void bumpVersion() {
+        jdbcTemplate.update("UPDATE ledgers SET version = version + 1 WHERE id = ?", ledgerId);
+    }
+}
@@ -0,0 +1,85 @@
+package com.famoney.api.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing tests with two in-memory H2 databases standing in for the primary and the replica.
+ * The replica's lag is read from a one-row table so tests can simulate lag and outages.
+ */
+@SpringBootTest(properties = {
+        "database.replica.url=jdbc:h2:mem:famoney_replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "database.replica.username=sa",
+        "database.replica.lag-query=SELECT seconds FROM replica_lag",
+        "database.replica.max-lag=5s",
+        "database.replica.lag-check-interval=1h"
+})
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY = "FAMONEY";
+    private static final String REPLICA = "FAMONEY_REPLICA";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        replicaJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds INT)");
+        replicaJdbcTemplate.update("DELETE FROM replica_lag");
+        replicaJdbcTemplate.update("INSERT INTO replica_lag (seconds) VALUES (0)");
+        replicaLagMonitor.check();
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplicaAndWritesToPrimary() {
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isTrue();
+        assertThat(databaseIn(true)).isEqualTo(REPLICA);
+        assertThat(databaseIn(false)).isEqualTo(PRIMARY);
+        assertThat(jdbcTemplate.queryForObject("SELECT DATABASE()", String.class)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhileReplicaLagsOrIsUnreachable() {
+        replicaJdbcTemplate.update("UPDATE replica_lag SET seconds = 60");
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(databaseIn(true)).isEqualTo(PRIMARY);
+
+        replicaJdbcTemplate.execute("DROP TABLE replica_lag");
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(databaseIn(true)).isEqualTo(PRIMARY);
+
+        setUp();
+        assertThat(databaseIn(true)).isEqualTo(REPLICA);
+    }
+
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+}
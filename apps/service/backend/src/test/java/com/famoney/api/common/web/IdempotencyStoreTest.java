@@ -0,0 +1,104 @@
+package com.famoney.api.common.web;
+
+import com.famoney.api.common.exception.DuplicateResourceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Duplicate, failed and mismatched requests against one idempotency key.
+ */
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(
+            new SimpleMeterRegistry(), Duration.ofHours(1), 1_000, Duration.ofSeconds(10));
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForFirstResponseInsteadOfRunning() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<ResponseEntity<String>> first = CompletableFuture.supplyAsync(
+                () -> store.execute("user-1", "key-1", "body", () -> {
+                    runs.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return ResponseEntity.ok("created");
+                }), executor);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<ResponseEntity<String>> duplicate = CompletableFuture.supplyAsync(
+                () -> store.execute("user-1", "key-1", "body", () -> {
+                    runs.incrementAndGet();
+                    return ResponseEntity.ok("duplicate");
+                }), executor);
+        Thread.sleep(200);
+        assertThat(duplicate).isNotDone();
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getBody()).isEqualTo("created");
+        ResponseEntity<String> replayed = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(replayed.getBody()).isEqualTo("created");
+        assertThat(replayed.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void failedActionIsNotStoredAndRetryRunsAgain() {
+        assertThatThrownBy(() -> store.execute("user-1", "key-1", "body", () -> {
+            runs.incrementAndGet();
+            throw new IllegalStateException("write failed");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("write failed");
+
+        ResponseEntity<String> retried = store.execute("user-1", "key-1", "body", () -> {
+            runs.incrementAndGet();
+            return ResponseEntity.ok("created");
+        });
+
+        assertThat(retried.getBody()).isEqualTo("created");
+        assertThat(retried.getHeaders().containsKey(IdempotencyStore.REPLAYED_HEADER)).isFalse();
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void keyReusedWithDifferentBodyIsRejected() {
+        store.execute("user-1", "key-1", "body", () -> {
+            runs.incrementAndGet();
+            return ResponseEntity.ok("created");
+        });
+
+        assertThatThrownBy(() -> store.execute("user-1", "key-1", "other body", () -> {
+            runs.incrementAndGet();
+            return ResponseEntity.ok("other");
+        })).isInstanceOf(DuplicateResourceException.class);
+        assertThat(runs).hasValue(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
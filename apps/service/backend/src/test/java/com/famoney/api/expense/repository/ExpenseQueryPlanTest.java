@@ -0,0 +1,95 @@
+package com.famoney.api.expense.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan regression tests for the expense list query.
+ * Runs EXPLAIN on H2 (PostgreSQL mode) and asserts the composite indexes from V10 are chosen.
+ * ANALYZE commits in H2, so the seed data is removed explicitly after the class.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExpenseQueryPlanTest {
+
+    private static final String LEDGER_ID = "plan-ledger-1";
+    private static final String OTHER_LEDGER_ID = "plan-ledger-2";
+    private static final String USER_ID = "plan-user-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, name) VALUES (?, ?, ?, ?)",
+                USER_ID, "plan@famoney.test", "x", "Plan");
+        jdbcTemplate.update("INSERT INTO ledgers (id, name, created_by) VALUES (?, ?, ?)",
+                LEDGER_ID, "Plan", USER_ID);
+        jdbcTemplate.update("INSERT INTO ledgers (id, name, created_by) VALUES (?, ?, ?)",
+                OTHER_LEDGER_ID, "Other", USER_ID);
+
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < 400; i++) {
+            jdbcTemplate.update("INSERT INTO expenses (id, ledger_id, category_id, amount, description, " +
+                            "expense_date, created_by) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    "plan-expense-" + i,
+                    i % 4 == 0 ? LEDGER_ID : OTHER_LEDGER_ID,
+                    "cat-default-00" + (1 + i % 9),
+                    1000 + i,
+                    "expense " + i,
+                    Date.valueOf(start.plusDays(i)),
+                    USER_ID);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE expenses");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM expenses WHERE ledger_id IN (?, ?)", LEDGER_ID, OTHER_LEDGER_ID);
+        jdbcTemplate.update("DELETE FROM ledgers WHERE id IN (?, ?)", LEDGER_ID, OTHER_LEDGER_ID);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", USER_ID);
+    }
+
+    @Test
+    void unfilteredListUsesLedgerDateIndex() {
+        String plan = explain("SELECT * FROM expenses e WHERE e.ledger_id = '" + LEDGER_ID + "' " +
+                "AND e.deleted_at IS NULL " +
+                "ORDER BY e.expense_date DESC, e.created_at DESC, e.id DESC LIMIT 20");
+
+        assertThat(plan).contains("IDX_EXPENSES_LEDGER_DATE_ACTIVE");
+    }
+
+    @Test
+    void dateRangeFilterUsesLedgerDateIndex() {
+        String plan = explain("SELECT * FROM expenses e WHERE e.ledger_id = '" + LEDGER_ID + "' " +
+                "AND e.deleted_at IS NULL " +
+                "AND e.expense_date >= DATE '2025-03-01' AND e.expense_date <= DATE '2025-09-30' " +
+                "ORDER BY e.expense_date DESC, e.created_at DESC, e.id DESC LIMIT 20");
+
+        assertThat(plan).contains("IDX_EXPENSES_LEDGER_DATE_ACTIVE");
+    }
+
+    @Test
+    void categoryFilterUsesLedgerCategoryIndex() {
+        String plan = explain("SELECT * FROM expenses e WHERE e.ledger_id = '" + LEDGER_ID + "' " +
+                "AND e.deleted_at IS NULL AND e.category_id = 'cat-default-001' " +
+                "AND e.expense_date >= DATE '2025-03-01' " +
+                "ORDER BY e.expense_date DESC, e.created_at DESC, e.id DESC LIMIT 20");
+
+        assertThat(plan).contains("IDX_EXPENSES_LEDGER_CATEGORY_DATE_ACTIVE");
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class)).toUpperCase();
+    }
+}
@@ -0,0 +1,77 @@
+package com.famoney.api.member.service;
+
+import com.famoney.api.auth.dto.SignupRequest;
+import com.famoney.api.auth.service.AuthService;
+import com.famoney.api.event.dto.LedgerEvent;
+import com.famoney.api.ledger.dto.CreateLedgerRequest;
+import com.famoney.api.ledger.service.LedgerService;
+import com.famoney.api.ledger.service.LedgerVersionService;
+import com.famoney.api.member.entity.MemberRole;
+import com.famoney.api.outbox.service.OutboxService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A membership change made on another instance evicts this instance's cached role through the outbox.
+ */
+@SpringBootTest(properties = "outbox.poll-interval=100ms")
+class LedgerAccessCacheTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private LedgerAccessCache ledgerAccessCache;
+
+    @Autowired
+    private LedgerVersionService ledgerVersionService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void memberRemovedElsewhereIsEvicted() throws InterruptedException {
+        String userId = authService.signup(SignupRequest.builder()
+                        .email("access-" + UUID.randomUUID() + "@famoney.test")
+                        .password("password123")
+                        .name("Access")
+                        .build())
+                .getUser()
+                .getId();
+        String ledgerId = ledgerService.createLedger(userId, new CreateLedgerRequest("Access", null, "KRW")).getId();
+        assertThat(ledgerAccessCache.findRole(userId, ledgerId)).contains(MemberRole.OWNER);
+
+        // What MemberService does on another instance, without this instance's local eviction
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ledgerVersionService.bump(ledgerId);
+            jdbcTemplate.update("DELETE FROM members WHERE user_id = ? AND ledger_id = ?", userId, ledgerId);
+            outboxService.append(LedgerEvent.of(LedgerEvent.Type.MEMBER_REMOVED, ledgerId, "member", userId, null));
+        });
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        Optional<MemberRole> role = ledgerAccessCache.findRole(userId, ledgerId);
+        while (role.isPresent() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            role = ledgerAccessCache.findRole(userId, ledgerId);
+        }
+        assertThat(role).isEmpty();
+    }
+}
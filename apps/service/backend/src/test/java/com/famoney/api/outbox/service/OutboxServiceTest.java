@@ -0,0 +1,147 @@
+package com.famoney.api.outbox.service;
+
+import com.famoney.api.auth.dto.SignupRequest;
+import com.famoney.api.auth.service.AuthService;
+import com.famoney.api.event.dto.LedgerEvent;
+import com.famoney.api.expense.dto.CreateExpenseRequest;
+import com.famoney.api.expense.dto.ExpenseResponse;
+import com.famoney.api.expense.service.ExpenseService;
+import com.famoney.api.ledger.dto.CreateLedgerRequest;
+import com.famoney.api.ledger.service.LedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox events are written in the writer's transaction and reach broadcast handlers only once committed.
+ */
+@SpringBootTest(properties = "outbox.poll-interval=100ms")
+class OutboxServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private RecordingHandler handler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String userId;
+    private String ledgerId;
+
+    @BeforeEach
+    void setUp() {
+        userId = authService.signup(SignupRequest.builder()
+                        .email("outbox-" + UUID.randomUUID() + "@famoney.test")
+                        .password("password123")
+                        .name("Outbox")
+                        .build())
+                .getUser()
+                .getId();
+        ledgerId = ledgerService.createLedger(userId, new CreateLedgerRequest("Outbox", null, "KRW")).getId();
+        handler.follow(ledgerId);
+    }
+
+    @Test
+    void rolledBackWriteLeavesNoEvent() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            createExpense();
+            status.setRollbackOnly();
+        });
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE ledger_id = ?", Integer.class, ledgerId)).isZero();
+    }
+
+    @Test
+    void committedWriteReachesBroadcastHandler() throws InterruptedException {
+        ExpenseResponse expense = createExpense();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (handler.events(ledgerId).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(handler.events(ledgerId))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getType()).isEqualTo(LedgerEvent.Type.EXPENSE_CREATED);
+                    assertThat(event.getResourceId()).isEqualTo(expense.getId());
+                    assertThat(event.getLedgerVersion()).isPositive();
+                });
+    }
+
+    private ExpenseResponse createExpense() {
+        return expenseService.createExpense(userId, ledgerId, CreateExpenseRequest.builder()
+                .amount(new BigDecimal("12000"))
+                .description("Lunch")
+                .expenseDate(LocalDate.of(2025, 6, 1))
+                .build());
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+
+    /**
+     * Follows chosen ledgers from version 0 and records what it is handed.
+     */
+    static class RecordingHandler implements OutboxBroadcastHandler {
+
+        private final Map<String, Long> versions = new ConcurrentHashMap<>();
+        private final List<LedgerEvent> events = new CopyOnWriteArrayList<>();
+
+        void follow(String ledgerId) {
+            versions.put(ledgerId, 0L);
+        }
+
+        List<LedgerEvent> events(String ledgerId) {
+            return events.stream()
+                    .filter(event -> event.getLedgerId().equals(ledgerId))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public Map<String, Long> followedLedgers() {
+            return Map.copyOf(versions);
+        }
+
+        @Override
+        public void handle(LedgerEvent event) {
+            events.add(event);
+            versions.merge(event.getLedgerId(), event.getLedgerVersion(), Math::max);
+        }
+    }
+}
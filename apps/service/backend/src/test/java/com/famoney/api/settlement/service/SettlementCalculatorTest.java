@@ -0,0 +1,79 @@
+package com.famoney.api.settlement.service;
+
+import com.famoney.api.settlement.service.SettlementCalculator.Transfer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Hand-checked ledgers for the share split and the balance matching.
+ */
+class SettlementCalculatorTest {
+
+    @Test
+    void givesRemainderUnitsToFirstParticipants() {
+        assertThat(SettlementCalculator.shares(10, 3)).containsExactly(4, 3, 3);
+        assertThat(SettlementCalculator.shares(9, 3)).containsExactly(3, 3, 3);
+        assertThat(SettlementCalculator.shares(-10, 3)).containsExactly(-3, -3, -4);
+        assertThat(SettlementCalculator.shares(5, 0)).isEmpty();
+    }
+
+    @Test
+    void balancesAreNetOfEqualShares() {
+        // 100 split three ways is 34 + 33 + 33
+        assertThat(SettlementCalculator.balances(new long[]{100, 0, 0})).containsExactly(66, -33, -33);
+        assertThat(SettlementCalculator.balances(new long[]{30, 30, 30})).containsExactly(0, 0, 0);
+    }
+
+    @Test
+    void rejectsBalancesThatDoNotAddUpToZero() {
+        assertThatThrownBy(() -> SettlementCalculator.settle(new long[]{5, -3}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Balances must add up to zero, got 2");
+    }
+
+    @Test
+    void matchesLargestDebtorWithLargestCreditor() {
+        List<Transfer> transfers = SettlementCalculator.settle(new long[]{-50, 80, -30, 20, -20});
+
+        assertThat(transfers).containsExactly(
+                new Transfer(0, 1, 50),
+                new Transfer(2, 1, 30),
+                new Transfer(4, 3, 20));
+    }
+
+    @Test
+    void breaksTiesByLowerIndex() {
+        long[] balances = {10, 10, -10, -10};
+
+        List<Transfer> transfers = SettlementCalculator.settle(balances);
+
+        assertThat(transfers).containsExactly(new Transfer(2, 0, 10), new Transfer(3, 1, 10));
+        assertThat(SettlementCalculator.settle(balances)).isEqualTo(transfers);
+    }
+
+    @Test
+    void settlesEveryBalanceInAtMostNMinusOneTransfers() {
+        Random random = new Random(42);
+        for (int n = 1; n <= 60; n++) {
+            long[] paid = random.longs(n, 0, 1_000_000).toArray();
+            long[] balances = SettlementCalculator.balances(paid);
+
+            List<Transfer> transfers = SettlementCalculator.settle(balances);
+
+            assertThat(transfers).hasSizeLessThanOrEqualTo(n - 1);
+            long[] remaining = Arrays.copyOf(balances, n);
+            for (Transfer transfer : transfers) {
+                assertThat(transfer.amount()).isPositive();
+                remaining[transfer.from()] += transfer.amount();
+                remaining[transfer.to()] -= transfer.amount();
+            }
+            assertThat(remaining).containsOnly(0);
+        }
+    }
+}
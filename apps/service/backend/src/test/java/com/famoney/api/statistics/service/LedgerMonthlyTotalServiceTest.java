@@ -0,0 +1,119 @@
+package com.famoney.api.statistics.service;
+
+import com.famoney.api.auth.dto.SignupRequest;
+import com.famoney.api.auth.service.AuthService;
+import com.famoney.api.category.dto.CreateCategoryRequest;
+import com.famoney.api.category.service.CategoryService;
+import com.famoney.api.expense.dto.CreateExpenseRequest;
+import com.famoney.api.expense.dto.UpdateExpenseRequest;
+import com.famoney.api.expense.service.ExpenseService;
+import com.famoney.api.ledger.dto.CreateLedgerRequest;
+import com.famoney.api.ledger.service.LedgerService;
+import com.famoney.api.member.entity.MemberRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The incrementally maintained rollup matches a rebuild from expenses.
+ */
+@SpringBootTest
+class LedgerMonthlyTotalServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private LedgerMonthlyTotalService monthlyTotalService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String userId;
+    private String ledgerId;
+
+    @BeforeEach
+    void setUp() {
+        userId = authService.signup(SignupRequest.builder()
+                        .email("rollup-" + UUID.randomUUID() + "@famoney.test")
+                        .password("password123")
+                        .name("Rollup")
+                        .build())
+                .getUser()
+                .getId();
+        ledgerId = ledgerService.createLedger(userId, new CreateLedgerRequest("Rollup", null, "KRW")).getId();
+    }
+
+    @Test
+    void updateMovesExpenseAcrossMonthsAndCategories() {
+        String food = createCategory("Food");
+        String travel = createCategory("Travel");
+        String moved = createExpense(food, LocalDate.of(2025, 6, 10), "10000");
+        createExpense(food, LocalDate.of(2025, 6, 20), "5000");
+
+        expenseService.updateExpense(userId, ledgerId, MemberRole.OWNER, moved, UpdateExpenseRequest.builder()
+                .categoryId(travel)
+                .expenseDate(LocalDate.of(2025, 7, 1))
+                .amount(new BigDecimal("12000"))
+                .build());
+
+        List<Map<String, Object>> incremental = rollup();
+        assertThat(incremental).hasSize(2);
+        assertThat(incremental.get(0))
+                .containsEntry("YEAR_MONTH", 202506)
+                .containsEntry("CATEGORY_ID", food)
+                .containsEntry("EXPENSE_COUNT", 1L);
+        assertThat((BigDecimal) incremental.get(0).get("TOTAL_AMOUNT")).isEqualByComparingTo("5000");
+        assertThat(incremental.get(1))
+                .containsEntry("YEAR_MONTH", 202507)
+                .containsEntry("CATEGORY_ID", travel)
+                .containsEntry("EXPENSE_COUNT", 1L);
+        assertThat((BigDecimal) incremental.get(1).get("TOTAL_AMOUNT")).isEqualByComparingTo("12000");
+
+        monthlyTotalService.rebuild(ledgerId);
+        assertThat(rollup()).isEqualTo(incremental);
+    }
+
+    private List<Map<String, Object>> rollup() {
+        return jdbcTemplate.queryForList("SELECT year_month, category_id, created_by, total_amount, expense_count " +
+                "FROM ledger_monthly_totals WHERE ledger_id = ? ORDER BY year_month, category_id", ledgerId);
+    }
+
+    private String createCategory(String name) {
+        return categoryService.createCategory(userId, ledgerId, CreateCategoryRequest.builder()
+                        .name(name)
+                        .color("#808080")
+                        .icon("restaurant")
+                        .build())
+                .getId();
+    }
+
+    private String createExpense(String categoryId, LocalDate date, String amount) {
+        return expenseService.createExpense(userId, ledgerId, CreateExpenseRequest.builder()
+                        .amount(new BigDecimal(amount))
+                        .description("Expense")
+                        .expenseDate(date)
+                        .categoryId(categoryId)
+                        .build())
+                .getId();
+    }
+}